@@ -7,7 +7,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.gradle.testkit.runner.BuildResult;
 import org.gradle.testkit.runner.GradleRunner;
 
@@ -42,6 +45,41 @@ final class GradleFixtureProject {
         this.writeDefaultMainSource();
     }
 
+    /**
+     * Settings that store task outputs in a local build cache shared with other fixture projects.
+     *
+     * @param directory Build cache directory.
+     * @throws IOException On settings write failure.
+     */
+    /* default */ void useBuildCache(final Path directory) throws IOException {
+        this.write(
+            "settings.gradle",
+            "rootProject.name = 'plugin-functional-test'\n"
+                + "buildCache {\n"
+                + "    local {\n"
+                + "        directory = file('" + directory.toString().replace('\\', '/') + "')\n"
+                + "    }\n"
+                + "}\n"
+        );
+    }
+
+    /**
+     * Multi-project consumer build where every module uses the same build file fixture and default main source.
+     *
+     * @param name Build fixture name.
+     * @param modules Module names.
+     * @throws IOException On fixture write failure.
+     */
+    /* default */ void writeModules(final String name, final String... modules) throws IOException {
+        final StringBuilder settings = new StringBuilder("rootProject.name = 'plugin-functional-test'\n");
+        for (final String module : modules) {
+            settings.append("include '").append(module).append("'\n");
+            this.writeFixture("build-scripts/" + name + ".gradle", module + "/build.gradle");
+            this.writeFixture("main/valid-app.java", module + "/src/main/java/demo/App.java");
+        }
+        this.write("settings.gradle", settings.toString());
+    }
+
     /**
      * Default main source fixture.
      *
@@ -58,6 +96,29 @@ final class GradleFixtureProject {
         );
     }
 
+    /**
+     * Removes the main Java sources, leaving a project without Java sources.
+     *
+     * @throws IOException On source deletion failure.
+     */
+    /* default */ void deleteMainSources() throws IOException {
+        try (Stream<Path> files = Files.walk(this.projectDir.resolve("src/main/java"))) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Creates an empty project directory.
+     *
+     * @param projectPath Directory path relative to the project.
+     * @throws IOException On directory creation failure.
+     */
+    /* default */ void createDirectory(final String projectPath) throws IOException {
+        Files.createDirectories(this.projectDir.resolve(projectPath));
+    }
+
     /**
      * Main source fixture.
      *
@@ -87,6 +148,16 @@ final class GradleFixtureProject {
         this.writeFixture("test/package-info.java", "src/test/java/demo/package-info.java");
     }
 
+    /**
+     * Staged file list at {@code staged.txt}, one path per line.
+     *
+     * @param paths Consumer project paths.
+     * @throws IOException On list write failure.
+     */
+    /* default */ void writeStagedFiles(final String... paths) throws IOException {
+        this.write("staged.txt", String.join("\n", paths) + "\n");
+    }
+
     /**
      * Raw fixture copy operation.
      *
@@ -148,6 +219,92 @@ final class GradleFixtureProject {
         return this.readProjectFile("build/reports/pmd/main.xml");
     }
 
+    /**
+     * PMD main incremental analysis cache, decoded byte per character.
+     *
+     * @return Cache content.
+     * @throws IOException On cache read failure.
+     */
+    /* default */ String pmdMainCache() throws IOException {
+        return new String(
+            Files.readAllBytes(this.projectDir.resolve("build/tmp/pmdMain/incremental.cache")),
+            StandardCharsets.ISO_8859_1
+        );
+    }
+
+    /**
+     * Replaces text in the PMD main incremental analysis cache, keeping its length, so cached results can be told
+     * apart from fresh ones.
+     *
+     * @param text cached text.
+     * @param replacement replacement of the same length.
+     * @throws IOException On cache read or write failure.
+     */
+    /* default */ void editPmdMainCache(final String text, final String replacement) throws IOException {
+        if (text.length() != replacement.length()) {
+            throw new IllegalArgumentException("Cache edits must keep the text length");
+        }
+        final String cache = this.pmdMainCache();
+        if (!cache.contains(text)) {
+            throw new IllegalStateException("Cache does not contain: " + text);
+        }
+        Files.write(
+            this.projectDir.resolve("build/tmp/pmdMain/incremental.cache"),
+            cache.replace(text, replacement).getBytes(StandardCharsets.ISO_8859_1)
+        );
+    }
+
+    /**
+     * Unifycode JSON profile report.
+     *
+     * @return Report content.
+     * @throws IOException On report read failure.
+     */
+    /* default */ String profileReport() throws IOException {
+        return this.readProjectFile("build/unifycode/profile/profile.json");
+    }
+
+    /**
+     * Unifycode SARIF report.
+     *
+     * @return Report content.
+     * @throws IOException On report read failure.
+     */
+    /* default */ String sarifReport() throws IOException {
+        return this.readProjectFile("build/reports/unifycode/unifycode.sarif");
+    }
+
+    /**
+     * Unifycode duplicate code report of a module.
+     *
+     * @param module Module name.
+     * @return Report content.
+     * @throws IOException On report read failure.
+     */
+    /* default */ String duplicatesReport(final String module) throws IOException {
+        return this.readProjectFile(module + "/build/reports/unifycode/duplicates.txt");
+    }
+
+    /**
+     * Unifycode report of violations not in the baseline.
+     *
+     * @return Report content.
+     * @throws IOException On report read failure.
+     */
+    /* default */ String baselineReport() throws IOException {
+        return this.readProjectFile("build/reports/unifycode/baseline.txt");
+    }
+
+    /**
+     * Consumer project file existence.
+     *
+     * @param projectPath Consumer project path.
+     * @return Whether the file exists.
+     */
+    /* default */ boolean exists(final String projectPath) {
+        return Files.exists(this.projectDir.resolve(projectPath));
+    }
+
     private GradleRunner runner(final String... arguments) {
         final List<String> actual = new ArrayList<>(Arrays.asList(arguments));
         actual.add("--stacktrace");
@@ -2,7 +2,9 @@ package io.github.c71n93.unifycode.gradle;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -26,6 +28,36 @@ final class UnifycodeGradlePluginFunctionalTest {
      */
     private static final String PROHIBIT_PUBLIC_STATIC_METHODS = "ProhibitPublicStaticMethods";
 
+    /**
+     * Aggregated quality gate task name.
+     */
+    private static final String UNIFYCODE_CHECK = "unifycodeCheck";
+
+    /**
+     * Baseline check task name.
+     */
+    private static final String BASELINE_CHECK = "unifycodeBaselineCheck";
+
+    /**
+     * Staged quality gate task name.
+     */
+    private static final String STAGED = "unifycodeStaged";
+
+    /**
+     * Staged file list command-line property.
+     */
+    private static final String STAGED_FILES = "-Punifycode.stagedFiles=staged.txt";
+
+    /**
+     * PMD main source set task name.
+     */
+    private static final String PMD_MAIN = "pmdMain";
+
+    /**
+     * Configuration cache command-line flag.
+     */
+    private static final String CONFIGURATION_CACHE = "--configuration-cache";
+
     /**
      * Temporary consumer project directory.
      */
@@ -50,7 +82,7 @@ final class UnifycodeGradlePluginFunctionalTest {
         final GradleFixtureProject project = this.project();
         project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
 
-        final BuildResult result = project.succeeds("unifycodeCheck");
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
 
         this.assertTaskScheduled(result, ":spotlessCheck");
         this.assertTaskScheduled(result, ":pmdMain");
@@ -58,18 +90,190 @@ final class UnifycodeGradlePluginFunctionalTest {
         this.assertTaskNotScheduled(result, ":test");
     }
 
+    @Test
+    void unifycodeCheckSkipsSourceSetsWithoutJavaSources() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild("functional-test-source-set");
+        project.writeFixture("resources/data.txt", "src/functionalTest/resources/demo/data.txt");
+
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        this.assertTaskScheduled(result, ":checkstyleMain");
+        this.assertTaskScheduled(result, ":pmdMain");
+        for (final String task : Arrays.asList(":checkstyleTest", ":pmdTest", ":checkstyleFunctionalTest")) {
+            this.assertTaskNotScheduled(result, task);
+        }
+        this.assertTaskNotScheduled(result, ":pmdFunctionalTest");
+    }
+
+    @Test
+    void unifycodeCheckSkipsFormattingWithoutJavaSources() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+        project.deleteMainSources();
+
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        this.assertTaskNotScheduled(result, ":spotlessCheck");
+        this.assertTaskNotScheduled(result, ":checkstyleMain");
+        this.assertTaskNotScheduled(result, ":pmdMain");
+    }
+
+    @Test
+    void firstJavaSourceInvalidatesConfigurationCache() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+        project.deleteMainSources();
+        final BuildResult first = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+        this.assertTaskNotScheduled(first, ":checkstyleMain");
+
+        project.writeDefaultMainSource();
+        final BuildResult second = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+
+        Assertions.assertFalse(
+            second.getOutput().contains("Configuration cache entry reused."),
+            () -> "Expected the first Java source to invalidate the cached task graph.\nOutput:\n" + second.getOutput()
+        );
+        this.assertAnalyzed(second, ":checkstyleMain", ":pmdMain");
+    }
+
+    @Test
+    void reusedConfigurationCacheAnalyzesAddedSources() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+        project.createDirectory("src/main/java/demo/nested");
+        final BuildResult first = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+        this.assertAnalyzed(first, ":checkstyleMain");
+
+        project.writeFixture("main/nested-package-info.java", "src/main/java/demo/nested/package-info.java");
+        project.writeFixture("main/nested-greeter.java", "src/main/java/demo/nested/Greeter.java");
+        final BuildResult second = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+
+        Assertions.assertTrue(
+            second.getOutput().contains("Configuration cache entry reused."),
+            () -> "Expected the second run to reuse the configuration cache entry.\nOutput:\n" + second.getOutput()
+        );
+        this.assertAnalyzed(second, ":checkstyleMain", ":pmdMain");
+    }
+
     @Test
     void pluginWorksWhenAppliedBeforeJava() throws IOException {
         final GradleFixtureProject project = this.project();
         project.writeBuild("unifycode-and-java");
 
-        final BuildResult result = project.succeeds("unifycodeCheck");
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
 
         this.assertTaskScheduled(result, ":spotlessCheck");
         this.assertTaskScheduled(result, ":pmdMain");
         this.assertTaskScheduled(result, ":checkstyleMain");
     }
 
+    @Test
+    void unifycodeCheckReusesConfigurationCache() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        final BuildResult first = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+        final BuildResult second = project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+
+        Assertions.assertTrue(
+            first.getOutput().contains("Configuration cache entry stored."),
+            () -> "Expected first run to store a configuration cache entry.\nOutput:\n" + first.getOutput()
+        );
+        Assertions.assertTrue(
+            second.getOutput().contains("Configuration cache entry reused."),
+            () -> "Expected second run to reuse the configuration cache entry.\nOutput:\n" + second.getOutput()
+        );
+    }
+
+    @Test
+    void relocatedProjectReusesBuildCache() throws IOException {
+        final Path cache = this.testProjectDir.resolve("build-cache");
+        final GradleFixtureProject first = new GradleFixtureProject(this.testProjectDir.resolve("first"));
+        final GradleFixtureProject second = new GradleFixtureProject(this.testProjectDir.resolve("second"));
+        for (final GradleFixtureProject project : Arrays.asList(first, second)) {
+            project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+            project.useBuildCache(cache);
+        }
+
+        first.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK, "--build-cache");
+        final BuildResult result = second.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            "--build-cache"
+        );
+
+        for (final String task : Arrays.asList(":checkstyleMain", ":pmdMain")) {
+            Assertions.assertEquals(
+                TaskOutcome.FROM_CACHE,
+                result.task(task).getOutcome(),
+                () -> "Expected " + task + " to be loaded from the build cache.\nOutput:\n" + result.getOutput()
+            );
+        }
+    }
+
+    @Test
+    void helpDoesNotExtractToolConfiguration() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        project.succeeds("help");
+
+        Assertions.assertFalse(
+            project.exists("build/unifycode"),
+            "Expected configuration-only builds not to extract tool configuration."
+        );
+    }
+
+    @Test
+    void toolConfigurationExtractionIsUpToDateOnSecondRun() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        Assertions.assertEquals(
+            TaskOutcome.UP_TO_DATE,
+            result.task(":unifycodeExtractConfig").getOutcome(),
+            "Expected unchanged tool configuration not to be extracted again."
+        );
+    }
+
+    @Test
+    void spotlessSettlesAfterRecordingFormattedSources() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        Assertions.assertTrue(
+            Arrays.asList(TaskOutcome.UP_TO_DATE, TaskOutcome.NO_SOURCE)
+                .contains(result.task(":spotlessJava").getOutcome()),
+            () -> "Expected Spotless not to run once the formatted sources are recorded, got: "
+                + result.task(":spotlessJava").getOutcome()
+        );
+    }
+
     // @todo #2:30min Move Checkstyle rule-behavior coverage (3 tests below) to the checkstyle subproject.
     @Test
     void checkstyleIgnoresJavadocsForActualTests() throws IOException {
@@ -144,13 +348,47 @@ final class UnifycodeGradlePluginFunctionalTest {
         );
     }
 
+    @Test
+    void sarifReportIsWrittenWhenChecksFail() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+        project.writeMainSource("missing-type-javadoc");
+
+        project.fails(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        final String report = project.sarifReport();
+        Assertions.assertTrue(
+            report.contains("\"ruleId\":\"" + UnifycodeGradlePluginFunctionalTest.MISSING_JAVADOC_TYPE + "\"")
+                && report.contains("\"uri\":\"src/main/java/demo/App.java\""),
+            () -> "Expected the Checkstyle violation in the SARIF report.\nReport:\n" + report
+        );
+    }
+
+    @Test
+    void sarifReportLeavesOutChecksThatDidNotRun() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeModules("non-strict-checkstyle", "lib");
+        project.writeBuild("non-strict-checkstyle");
+        project.writeDefaultMainSource();
+        project.writeFixture("main/missing-type-javadoc.java", "lib/src/main/java/demo/App.java");
+        project.succeeds(":lib:checkstyleMain");
+
+        project.succeeds(":checkstyleMain");
+
+        final String report = project.sarifReport();
+        Assertions.assertFalse(
+            report.contains(UnifycodeGradlePluginFunctionalTest.MISSING_JAVADOC_TYPE),
+            () -> "Expected no lib results from the earlier build.\nReport:\n" + report
+        );
+    }
+
     @Test
     void nonStrictPmdPolicyAllowsBuildWhileStillWritingReport() throws IOException {
         final GradleFixtureProject project = this.project();
         project.writeBuild("non-strict-pmd");
         project.writeMainSource("pmd-public-static-method");
 
-        project.succeeds("pmdMain");
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
 
         Assertions.assertTrue(
             project.pmdMainReport().contains(UnifycodeGradlePluginFunctionalTest.PROHIBIT_PUBLIC_STATIC_METHODS),
@@ -164,7 +402,7 @@ final class UnifycodeGradlePluginFunctionalTest {
         project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
         project.writeMainSource("pmd-public-static-method");
 
-        project.fails("pmdMain");
+        project.fails(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
 
         Assertions.assertTrue(
             project.pmdMainReport().contains(UnifycodeGradlePluginFunctionalTest.PROHIBIT_PUBLIC_STATIC_METHODS),
@@ -179,7 +417,7 @@ final class UnifycodeGradlePluginFunctionalTest {
         project.writeMainSource("pmd-public-static-method");
 
         project.succeeds("checkstyleMain");
-        project.succeeds("pmdMain");
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
 
         Assertions.assertTrue(
             project.checkstyleMainReport().contains(UnifycodeGradlePluginFunctionalTest.MISSING_JAVADOC_TYPE),
@@ -191,6 +429,162 @@ final class UnifycodeGradlePluginFunctionalTest {
         );
     }
 
+    @Test
+    void incrementalPmdAnalysisKeepsUnchangedFilesCached() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild("non-strict-pmd");
+        project.writeMainSource("pmd-public-static-method");
+        project.writeFixture("main/valid-greeter.java", "src/main/java/demo/Greeter.java");
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
+        project.editPmdMainCache("methods are prohibited", "methods are PROHIBITED");
+        project.writeFixture("main/valid-greeter-changed.java", "src/main/java/demo/Greeter.java");
+
+        final BuildResult result = project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
+
+        Assertions.assertEquals(
+            TaskOutcome.SUCCESS,
+            result.task(":pmdMain").getOutcome(),
+            "Expected the changed source to be analyzed again."
+        );
+        Assertions.assertTrue(
+            project.pmdMainReport().contains("methods are PROHIBITED"),
+            "Expected the violation of the unchanged source to be replayed from the PMD analysis cache."
+        );
+        Assertions.assertTrue(
+            project.pmdMainCache().contains("Greeter.java"),
+            "Expected the changed source to be recorded in the PMD analysis cache."
+        );
+    }
+
+    @Test
+    void nonIncrementalPmdAnalysisReanalyzesUnchangedFiles() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild("non-strict-pmd");
+        project.writeMainSource("pmd-public-static-method");
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
+        project.editPmdMainCache("methods are prohibited", "methods are PROHIBITED");
+        project.writeBuild("non-incremental-non-strict-pmd");
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
+
+        Assertions.assertFalse(
+            project.pmdMainReport().contains("methods are PROHIBITED"),
+            "Expected non-incremental PMD to analyze the unchanged source again."
+        );
+    }
+
+    @Test
+    void nonIncrementalPmdPolicyDoesNotWriteAnalysisCache() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild("non-incremental-pmd");
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.PMD_MAIN);
+
+        Assertions.assertFalse(
+            project.exists("build/tmp/pmdMain/incremental.cache"),
+            "Expected non-incremental PMD policy not to write an analysis cache."
+        );
+    }
+
+    @Test
+    void profilingWritesQualityTaskReport() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        project.succeeds(
+            UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK,
+            "-Punifycode.profile",
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+
+        final String report = project.profileReport();
+        Assertions.assertTrue(
+            report.contains("\"path\": \":checkstyleMain\", \"tool\": \"checkstyle\", \"outcome\": \"executed\""),
+            () -> "Expected Checkstyle task in the profile report.\nReport:\n" + report
+        );
+        Assertions.assertTrue(
+            report.contains("\"path\": \":pmdMain\", \"tool\": \"pmd\""),
+            () -> "Expected PMD task in the profile report.\nReport:\n" + report
+        );
+        Assertions.assertTrue(
+            report.contains("\"files\": 2"),
+            () -> "Expected analyzed file counts in the profile report.\nReport:\n" + report
+        );
+    }
+
+    @Test
+    void profilingIsOffByDefault() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.UNIFYCODE_CHECK);
+
+        Assertions.assertFalse(
+            project.exists("build/unifycode/profile"),
+            "Expected no profile report without the profiling property."
+        );
+    }
+
+    @Test
+    void duplicateDetectionFindsCodeDuplicatedAcrossModules() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeModules("duplicates", "app", "lib");
+
+        final BuildResult result = project.fails(
+            ":app:unifycodeDuplicates",
+            UnifycodeGradlePluginFunctionalTest.CONFIGURATION_CACHE
+        );
+
+        Assertions.assertTrue(
+            result.getOutput().contains("Found 1 duplicate code blocks."),
+            () -> "Expected duplicate detection failure.\nOutput:\n" + result.getOutput()
+        );
+        final String report = project.duplicatesReport("app");
+        Assertions.assertTrue(
+            report.contains(":app demo/App.java:6-15 duplicates :lib demo/App.java:6-15"),
+            () -> "Expected cross-module duplicate in the report.\nReport:\n" + report
+        );
+    }
+
+    @Test
+    void baselineAcceptsRecordedViolationsOnly() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild("baseline");
+        project.writeMainSource("missing-type-javadoc");
+
+        project.succeeds("unifycodeBaseline");
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.BASELINE_CHECK);
+        project.writeMainSource("pmd-public-static-method");
+        final BuildResult result = project.fails(UnifycodeGradlePluginFunctionalTest.BASELINE_CHECK);
+
+        Assertions.assertTrue(
+            result.getOutput().contains("violations not in the baseline"),
+            () -> "Expected the new violation to fail the baseline check.\nOutput:\n" + result.getOutput()
+        );
+        final String report = project.baselineReport();
+        Assertions.assertTrue(
+            report.contains(UnifycodeGradlePluginFunctionalTest.PROHIBIT_PUBLIC_STATIC_METHODS),
+            () -> "Expected the new PMD violation in the baseline report.\nReport:\n" + report
+        );
+    }
+
+    @Test
+    void stagedGateChecksListedFilesOnly() throws IOException {
+        final GradleFixtureProject project = this.project();
+        project.writeBuild(UnifycodeGradlePluginFunctionalTest.JAVA_AND_UNIFYCODE);
+        project.writeMainSource("missing-type-javadoc");
+        project.writeStagedFiles("src/main/java/demo/package-info.java");
+
+        project.succeeds(UnifycodeGradlePluginFunctionalTest.STAGED, UnifycodeGradlePluginFunctionalTest.STAGED_FILES);
+
+        Assertions.assertFalse(
+            project.checkstyleMainReport().contains(UnifycodeGradlePluginFunctionalTest.MISSING_JAVADOC_TYPE),
+            "Expected unstaged files not to be checked."
+        );
+        project.writeStagedFiles("src/main/java/demo/App.java");
+        project.fails(UnifycodeGradlePluginFunctionalTest.STAGED, UnifycodeGradlePluginFunctionalTest.STAGED_FILES);
+    }
+
     private GradleFixtureProject project() {
         return new GradleFixtureProject(this.testProjectDir);
     }
@@ -202,6 +596,17 @@ final class UnifycodeGradlePluginFunctionalTest {
         );
     }
 
+    private void assertAnalyzed(final BuildResult result, final String... taskPaths) {
+        for (final String task : taskPaths) {
+            this.assertTaskScheduled(result, task);
+            Assertions.assertEquals(
+                TaskOutcome.SUCCESS,
+                result.task(task).getOutcome(),
+                () -> "Expected " + task + " to analyze the main sources.\nOutput:\n" + result.getOutput()
+            );
+        }
+    }
+
     private void assertTaskNotScheduled(final BuildResult result, final String taskPath) {
         Assertions.assertNull(result.task(taskPath), "Expected " + taskPath + " not to be scheduled.");
     }
@@ -0,0 +1,4 @@
+/**
+ * Nested demo package.
+ */
+package demo.nested;
@@ -0,0 +1,15 @@
+package demo;
+
+/**
+ * Demo application.
+ */
+public final class App {
+    /**
+     * Application value.
+     *
+     * @return Value.
+     */
+    public String value() {
+        return "changed";
+    }
+}
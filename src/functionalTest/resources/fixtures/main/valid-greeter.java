@@ -0,0 +1,15 @@
+package demo;
+
+/**
+ * Demo greeter.
+ */
+public final class Greeter {
+    /**
+     * Greeting.
+     *
+     * @return Greeting.
+     */
+    public String greeting() {
+        return "hello";
+    }
+}
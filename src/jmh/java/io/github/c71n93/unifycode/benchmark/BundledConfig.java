@@ -0,0 +1,97 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Bundled Unifycode tool configuration, read from the plugin resources.
+ */
+final class BundledConfig {
+    /**
+     * Checkstyle configuration resource path.
+     */
+    /* default */ static final String CHECKSTYLE = "io/github/c71n93/unifycode/checkstyle/checkstyle.xml";
+
+    /**
+     * Checkstyle suppression configuration resource path.
+     */
+    /* default */ static final String SUPPRESSIONS =
+        "io/github/c71n93/unifycode/checkstyle/checkstyle-suppressions.xml";
+
+    /**
+     * PMD ruleset resource path.
+     */
+    /* default */ static final String PMD = "io/github/c71n93/unifycode/pmd/pmd.xml";
+
+    /**
+     * Unifycode PMD rules resource path.
+     */
+    /* default */ static final String RULES = "io/github/c71n93/unifycode/pmd/unifycode.xml";
+
+    /**
+     * XPath versions of the Unifycode PMD rules, bundled with the benchmarks only.
+     */
+    /* default */ static final String XPATH = "io/github/c71n93/unifycode/benchmark/xpath.xml";
+
+    /**
+     * Spotless Eclipse formatter profile resource path.
+     */
+    /* default */ static final String FORMATTER = "io/github/c71n93/unifycode/spotless/eclipse-java-formatter.xml";
+
+    /**
+     * Directory resources are extracted to.
+     */
+    private final Path directory;
+
+    /**
+     * New bundled configuration.
+     *
+     * @param directory directory resources are extracted to.
+     */
+    /* default */ BundledConfig(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Directory resources are extracted to.
+     *
+     * @return extraction directory.
+     */
+    /* default */ Path directory() {
+        return this.directory;
+    }
+
+    /**
+     * Extracts a bundled resource, named by its last path segment.
+     *
+     * @param resource classpath resource path.
+     * @return extracted file.
+     * @throws IOException on resource read or file write failure.
+     */
+    /* default */ Path extract(final String resource) throws IOException {
+        final Path target = this.directory.resolve(resource.substring(resource.lastIndexOf('/') + 1));
+        Files.createDirectories(this.directory);
+        try (InputStream stream = BundledConfig.open(resource)) {
+            Files.copy(stream, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    /**
+     * Opens a classpath resource.
+     *
+     * @param resource classpath resource path.
+     * @return resource stream.
+     * @throws IOException when the resource is missing.
+     */
+    /* default */ static InputStream open(final String resource) throws IOException {
+        final InputStream stream = BundledConfig.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("Missing resource: " + resource);
+        }
+        return stream;
+    }
+}
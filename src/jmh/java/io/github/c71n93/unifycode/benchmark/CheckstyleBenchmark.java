@@ -0,0 +1,107 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checkstyle audit of single corpus files with the bundled configuration.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CheckstyleBenchmark {
+    /**
+     * Benchmark corpus.
+     */
+    private Corpus corpus;
+
+    /**
+     * Corpus files.
+     */
+    private List<File> files;
+
+    /**
+     * Checker with every bundled module, configured once.
+     */
+    private Checker checker;
+
+    /**
+     * Index of the next corpus file.
+     */
+    private int next;
+
+    /**
+     * Writes the corpus and configures the checker.
+     *
+     * @throws IOException on corpus or configuration write failure.
+     * @throws CheckstyleException on configuration load failure.
+     */
+    @Setup
+    public void setUp() throws IOException, CheckstyleException {
+        this.corpus = new Corpus(Files.createTempDirectory("unifycode-checkstyle"));
+        this.files = this.corpus.write(Corpus.GENERATED);
+        this.checker = CheckstyleModules.load(
+            new BundledConfig(Files.createTempDirectory("unifycode-checkstyle-config"))
+        ).all();
+    }
+
+    /**
+     * Releases the checker and deletes the corpus.
+     *
+     * @throws IOException on corpus deletion failure.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.checker.destroy();
+        this.corpus.delete();
+    }
+
+    /**
+     * Audited files per second.
+     *
+     * @return number of violations.
+     * @throws CheckstyleException on audit failure.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int throughput() throws CheckstyleException {
+        return this.audit();
+    }
+
+    /**
+     * Per-file audit latency distribution.
+     *
+     * @return number of violations.
+     * @throws CheckstyleException on audit failure.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int latency() throws CheckstyleException {
+        return this.audit();
+    }
+
+    private int audit() throws CheckstyleException {
+        final File file = this.files.get(this.next);
+        this.next = (this.next + 1) % this.files.size();
+        return this.checker.process(List.of(file));
+    }
+}
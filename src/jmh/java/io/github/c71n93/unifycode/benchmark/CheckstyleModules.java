@@ -0,0 +1,156 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.ConfigurationLoader;
+import com.puppycrawl.tools.checkstyle.DefaultConfiguration;
+import com.puppycrawl.tools.checkstyle.PropertiesExpander;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import com.puppycrawl.tools.checkstyle.api.Configuration;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Bundled Checkstyle configuration, split into modules.
+ */
+final class CheckstyleModules {
+    /**
+     * Tree walker module name.
+     */
+    private static final String TREE_WALKER = "TreeWalker";
+
+    /**
+     * Single-line pattern module name.
+     */
+    private static final String LINE_PATTERN = "RegexpSingleline";
+
+    /**
+     * Result cache property, left out so every audit processes every file.
+     */
+    private static final String CACHE = "cacheFile";
+
+    /**
+     * Root Checker configuration.
+     */
+    private final Configuration root;
+
+    /**
+     * New module split.
+     *
+     * @param root root Checker configuration.
+     */
+    /* default */ CheckstyleModules(final Configuration root) {
+        this.root = root;
+    }
+
+    /**
+     * Loads the bundled configuration with the properties the plugin provides.
+     *
+     * @param config bundled configuration.
+     * @return module split of the bundled configuration.
+     * @throws IOException on configuration extraction failure.
+     * @throws CheckstyleException on configuration load failure.
+     */
+    /* default */ static CheckstyleModules load(final BundledConfig config) throws IOException, CheckstyleException {
+        config.extract(BundledConfig.SUPPRESSIONS);
+        final Properties properties = new Properties();
+        properties.setProperty("config_loc", config.directory().toString());
+        return new CheckstyleModules(
+            ConfigurationLoader.loadConfiguration(
+                config.extract(BundledConfig.CHECKSTYLE).toString(),
+                new PropertiesExpander(properties)
+            )
+        );
+    }
+
+    /**
+     * Checker with every bundled module and no result cache.
+     *
+     * @return configured checker.
+     * @throws CheckstyleException on module instantiation failure.
+     */
+    /* default */ Checker all() throws CheckstyleException {
+        final DefaultConfiguration all = CheckstyleModules.copy(this.root, CheckstyleModules.CACHE);
+        for (final Configuration child : this.root.getChildren()) {
+            all.addChild(child);
+        }
+        return CheckstyleModules.checker(all);
+    }
+
+    /**
+     * Checkers with a single bundled check each, keyed by module label.
+     *
+     * @return configured checkers.
+     * @throws CheckstyleException on module instantiation failure.
+     */
+    /* default */ Map<String, Checker> single() throws CheckstyleException {
+        final Map<String, Checker> checkers = new LinkedHashMap<>();
+        for (final Configuration child : this.root.getChildren()) {
+            if (CheckstyleModules.TREE_WALKER.equals(child.getName())) {
+                for (final Configuration check : child.getChildren()) {
+                    final DefaultConfiguration walker = CheckstyleModules.copy(child, "");
+                    walker.addChild(check);
+                    checkers.put(CheckstyleModules.label(check), this.alone(walker));
+                }
+            } else {
+                checkers.put(CheckstyleModules.label(child), this.alone(child));
+            }
+        }
+        return checkers;
+    }
+
+    /**
+     * Patterns of the bundled {@code RegexpSingleline} modules.
+     *
+     * @return {@code format} property of each module, in configuration order.
+     * @throws CheckstyleException on property read failure.
+     */
+    /* default */ List<String> lineFormats() throws CheckstyleException {
+        final List<String> formats = new ArrayList<>(this.root.getChildren().length);
+        for (final Configuration child : this.root.getChildren()) {
+            if (CheckstyleModules.LINE_PATTERN.equals(child.getName())) {
+                formats.add(child.getProperty("format"));
+            }
+        }
+        return formats;
+    }
+
+    private Checker alone(final Configuration module) throws CheckstyleException {
+        final DefaultConfiguration checker = CheckstyleModules.copy(this.root, CheckstyleModules.CACHE);
+        checker.addChild(module);
+        return CheckstyleModules.checker(checker);
+    }
+
+    private static DefaultConfiguration copy(final Configuration source, final String skipped)
+        throws CheckstyleException {
+        final DefaultConfiguration copy = new DefaultConfiguration(source.getName());
+        for (final String name : source.getPropertyNames()) {
+            if (!skipped.equals(name)) {
+                copy.addProperty(name, source.getProperty(name));
+            }
+        }
+        for (final Map.Entry<String, String> message : source.getMessages().entrySet()) {
+            copy.addMessage(message.getKey(), message.getValue());
+        }
+        return copy;
+    }
+
+    private static Checker checker(final Configuration configuration) throws CheckstyleException {
+        final Checker checker = new Checker();
+        checker.setModuleClassLoader(Checker.class.getClassLoader());
+        checker.configure(configuration);
+        return checker;
+    }
+
+    private static String label(final Configuration module) throws CheckstyleException {
+        String label = module.getName();
+        if (Arrays.asList(module.getPropertyNames()).contains("id")) {
+            label = label + "[" + module.getProperty("id") + "]";
+        }
+        return label;
+    }
+}
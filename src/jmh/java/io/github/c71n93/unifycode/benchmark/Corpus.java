@@ -0,0 +1,178 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark corpus of fixture and generated Java sources written to disk.
+ */
+final class Corpus {
+    /**
+     * Number of generated sources in the default corpus.
+     */
+    /* default */ static final int GENERATED = 40;
+
+    /**
+     * Number of methods in each generated source.
+     */
+    private static final int METHODS = 12;
+
+    /**
+     * Fixture sources shared with the functional and formatter tests.
+     */
+    private static final String[] FIXTURES = {
+        "fixtures/main/valid-app.java",
+        "fixtures/main/valid-greeter.java",
+        "fixtures/main/missing-type-javadoc.java",
+        "fixtures/main/pmd-public-static-method.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/AnnotationsInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/AnnotationsExpected.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/DocumentationInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/DocumentationExpected.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/ExpressionsInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/ExpressionsExpected.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/MethodCallsInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/MethodCallsExpected.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/MethodDeclarationsInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/MethodDeclarationsExpected.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/RecordCtorParametersInput.java",
+        "io/github/c71n93/unifycode/spotless/fixtures/RecordCtorParametersExpected.java",
+    };
+
+    /**
+     * Corpus root directory.
+     */
+    private final Path directory;
+
+    /**
+     * New corpus.
+     *
+     * @param directory corpus root directory.
+     */
+    /* default */ Corpus(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes fixture sources and the given number of generated sources.
+     *
+     * @param generated number of generated sources.
+     * @return written source files.
+     * @throws IOException on resource read or file write failure.
+     */
+    /* default */ List<File> write(final int generated) throws IOException {
+        final List<File> files = new ArrayList<>(Corpus.FIXTURES.length + generated);
+        final Path fixtures = Files.createDirectories(this.directory.resolve("fixtures"));
+        for (final String fixture : Corpus.FIXTURES) {
+            final Path target = fixtures.resolve(fixture.substring(fixture.lastIndexOf('/') + 1));
+            try (InputStream stream = BundledConfig.open(fixture)) {
+                Files.copy(stream, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            files.add(target.toFile());
+        }
+        final Path sources = Files.createDirectories(this.directory.resolve("generated/demo"));
+        for (int index = 0; index < generated; ++index) {
+            final Path target = sources.resolve("Ledger" + index + ".java");
+            Files.writeString(target, Corpus.source(index), StandardCharsets.UTF_8);
+            files.add(target.toFile());
+        }
+        return files;
+    }
+
+    /**
+     * Deletes the corpus directory.
+     *
+     * @throws IOException on file deletion failure.
+     */
+    /* default */ void delete() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String source(final int index) {
+        final StringBuilder source = new StringBuilder(
+            """
+            package demo;
+
+            import java.util.ArrayList;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.TreeMap;
+            import java.util.stream.Collectors;
+
+            /**
+             * Generated ledger %1$d.
+             */
+            public final class Ledger%1$d {
+                /**
+                 * Ledger entries.
+                 */
+                private final List<String> entries;
+
+                /**
+                 * Totals by prefix.
+                 */
+                private final Map<String, Long> totals;
+
+                /**
+                 * New ledger.
+                 *
+                 * @param entries initial entries.
+                 */
+                public Ledger%1$d(final List<String> entries) {
+                    this.entries = new ArrayList<>(entries);
+                    this.totals = new TreeMap<>();
+                }
+            """.formatted(index)
+        );
+        for (int method = 0; method < Corpus.METHODS; ++method) {
+            source.append(
+                """
+
+                    /**
+                     * Total length of entries with the given prefix, step %1$d.
+                     *
+                     * @param prefix entry prefix.
+                     * @return total length.
+                     */
+                    public long total%1$d(final String prefix) {
+                        long sum = 0L;
+                        for (final String entry : this.entries) {
+                            if (entry.startsWith(prefix) && entry.length() > %1$d) {
+                                sum += (long) entry.length() * %2$d;
+                            }
+                        }
+                        this.totals.put(prefix + "-%1$d", sum);
+                        return sum;
+                    }
+
+                    /**
+                     * Entries with the given suffix, step %1$d.
+                     *
+                     * @param suffix entry suffix.
+                     * @return joined entries.
+                     */
+                    public String joined%1$d(final String suffix) {
+                        return this.entries.stream()
+                            .filter(entry -> entry.endsWith(suffix))
+                            .map(entry -> entry.substring(0, Math.min(entry.length(), %2$d)))
+                            .collect(Collectors.joining(", ", "[", "]"));
+                    }
+                """.formatted(method, index + method + 1)
+            );
+        }
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,148 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import com.puppycrawl.tools.checkstyle.Checker;
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.pmd.lang.rule.Rule;
+import net.sourceforge.pmd.lang.rule.RuleSet;
+
+/**
+ * Report of the most expensive bundled PMD rules and Checkstyle modules. Each rule and module runs alone over the
+ * whole corpus, and the report lists the best of several passes, so parsing cost is part of every entry.
+ */
+public final class CostReport {
+    /**
+     * Timed passes per rule or module, after one warm-up pass.
+     */
+    private static final int PASSES = 3;
+
+    /**
+     * Number of reported entries per tool.
+     */
+    private static final int TOP = 20;
+
+    /**
+     * Benchmark corpus.
+     */
+    private final Corpus corpus;
+
+    /**
+     * Bundled configuration.
+     */
+    private final BundledConfig config;
+
+    /**
+     * New report.
+     *
+     * @param corpus benchmark corpus.
+     * @param config bundled configuration.
+     */
+    public CostReport(final Corpus corpus, final BundledConfig config) {
+        this.corpus = corpus;
+        this.config = config;
+    }
+
+    /**
+     * Writes the report to the file given as the only argument.
+     *
+     * @param args report file path.
+     * @throws IOException on corpus or report write failure.
+     * @throws CheckstyleException on Checkstyle configuration or audit failure.
+     */
+    public static void main(final String[] args) throws IOException, CheckstyleException {
+        final Path report = Path.of(args[0]);
+        final Path work = Files.createTempDirectory("unifycode-cost");
+        final Corpus corpus = new Corpus(work.resolve("corpus"));
+        final String text = new CostReport(corpus, new BundledConfig(work.resolve("config"))).text();
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, text, StandardCharsets.UTF_8);
+        corpus.delete();
+    }
+
+    /**
+     * Report text.
+     *
+     * @return report text.
+     * @throws IOException on corpus write failure.
+     * @throws CheckstyleException on Checkstyle configuration or audit failure.
+     */
+    public String text() throws IOException, CheckstyleException {
+        final List<File> files = this.corpus.write(Corpus.GENERATED);
+        final StringBuilder text = new StringBuilder(
+            String.format(Locale.ROOT, "Corpus: %d files, best of %d passes.%n", files.size(), CostReport.PASSES)
+        );
+        CostReport.append(text, "PMD rules", this.pmd(files));
+        CostReport.append(text, "Checkstyle modules", this.checkstyle(files));
+        return text.toString();
+    }
+
+    private Map<String, Long> pmd(final List<File> files) throws CheckstyleException {
+        final PmdAnalyzer analyzer = new PmdAnalyzer();
+        final Map<String, Long> costs = new LinkedHashMap<>();
+        for (final Rule rule : analyzer.bundled().getRules()) {
+            final RuleSet single = RuleSet.forSingleRule(rule);
+            costs.put(rule.getName(), CostReport.best(() -> analyzer.violations(single, files)));
+        }
+        return costs;
+    }
+
+    private Map<String, Long> checkstyle(final List<File> files) throws IOException, CheckstyleException {
+        final Map<String, Long> costs = new LinkedHashMap<>();
+        for (final Map.Entry<String, Checker> module : CheckstyleModules.load(this.config).single().entrySet()) {
+            final Checker checker = module.getValue();
+            costs.put(module.getKey(), CostReport.best(() -> checker.process(files)));
+            checker.destroy();
+        }
+        return costs;
+    }
+
+    private static long best(final Pass pass) throws CheckstyleException {
+        pass.run();
+        long best = Long.MAX_VALUE;
+        for (int index = 0; index < CostReport.PASSES; ++index) {
+            final long start = System.nanoTime();
+            pass.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static void append(final StringBuilder text, final String title, final Map<String, Long> costs) {
+        final List<Map.Entry<String, Long>> sorted = new ArrayList<>(costs.entrySet());
+        sorted.sort(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()));
+        text.append(String.format(Locale.ROOT, "%n%s, most expensive first:%n", title));
+        for (final Map.Entry<String, Long> cost : sorted.subList(0, Math.min(CostReport.TOP, sorted.size()))) {
+            text.append(
+                String.format(
+                    Locale.ROOT,
+                    "%10.1f ms  %s%n",
+                    cost.getValue() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    cost.getKey()
+                )
+            );
+        }
+    }
+
+    /**
+     * Timed pass over the corpus.
+     */
+    private interface Pass {
+        /**
+         * Runs the pass.
+         *
+         * @throws CheckstyleException on audit failure.
+         */
+        void run() throws CheckstyleException;
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.TextEdit;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Eclipse JDT formatter configured with the bundled Spotless profile.
+ */
+final class EclipseFormatter {
+    /**
+     * Java release the corpus is written for.
+     */
+    private static final String RELEASE = "21";
+
+    /**
+     * JDT formatter.
+     */
+    private final CodeFormatter formatter;
+
+    /**
+     * New formatter.
+     *
+     * @param formatter JDT formatter.
+     */
+    /* default */ EclipseFormatter(final CodeFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    /**
+     * Formatter configured with the bundled profile.
+     *
+     * @return bundled formatter.
+     * @throws IOException on profile read failure.
+     * @throws ParserConfigurationException on XML parser setup failure.
+     * @throws SAXException on malformed profile.
+     */
+    /* default */ static EclipseFormatter bundled() throws IOException, ParserConfigurationException, SAXException {
+        final Map<String, String> options = new LinkedHashMap<>();
+        try (InputStream stream = BundledConfig.open(BundledConfig.FORMATTER)) {
+            final NodeList settings = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder()
+                .parse(stream)
+                .getElementsByTagName("setting");
+            for (int index = 0; index < settings.getLength(); ++index) {
+                final Element setting = (Element) settings.item(index);
+                options.put(setting.getAttribute("id"), setting.getAttribute("value"));
+            }
+        }
+        options.putIfAbsent(JavaCore.COMPILER_SOURCE, EclipseFormatter.RELEASE);
+        options.putIfAbsent(JavaCore.COMPILER_COMPLIANCE, EclipseFormatter.RELEASE);
+        options.putIfAbsent(JavaCore.COMPILER_CODEGEN_TARGET_PLATFORM, EclipseFormatter.RELEASE);
+        return new EclipseFormatter(ToolFactory.createCodeFormatter(options, ToolFactory.M_FORMAT_EXISTING));
+    }
+
+    /**
+     * Formats a compilation unit.
+     *
+     * @param source source text.
+     * @return formatted source text, or the source itself when it cannot be parsed.
+     * @throws BadLocationException on an edit outside the source text.
+     */
+    /* default */ String format(final String source) throws BadLocationException {
+        final TextEdit edit = this.formatter.format(
+            CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS,
+            source,
+            0,
+            source.length(),
+            0,
+            "\n"
+        );
+        String formatted = source;
+        if (edit != null) {
+            final IDocument document = new Document(source);
+            edit.apply(document);
+            formatted = document.get();
+        }
+        return formatted;
+    }
+}
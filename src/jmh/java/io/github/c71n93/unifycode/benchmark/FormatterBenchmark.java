@@ -0,0 +1,96 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eclipse.jface.text.BadLocationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+/**
+ * Eclipse formatting of single corpus sources with the bundled Spotless profile.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FormatterBenchmark {
+    /**
+     * Corpus sources, read into memory.
+     */
+    private List<String> sources;
+
+    /**
+     * Formatter configured once.
+     */
+    private EclipseFormatter formatter;
+
+    /**
+     * Index of the next corpus source.
+     */
+    private int next;
+
+    /**
+     * Reads the corpus and configures the formatter.
+     *
+     * @throws IOException on corpus read or write failure.
+     * @throws ParserConfigurationException on XML parser setup failure.
+     * @throws SAXException on malformed formatter profile.
+     */
+    @Setup
+    public void setUp() throws IOException, ParserConfigurationException, SAXException {
+        final Corpus corpus = new Corpus(Files.createTempDirectory("unifycode-formatter"));
+        this.sources = new ArrayList<>(Corpus.GENERATED);
+        for (final File file : corpus.write(Corpus.GENERATED)) {
+            this.sources.add(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+        }
+        corpus.delete();
+        this.formatter = EclipseFormatter.bundled();
+    }
+
+    /**
+     * Formatted files per second.
+     *
+     * @return formatted source.
+     * @throws BadLocationException on an edit outside the source text.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public String throughput() throws BadLocationException {
+        return this.format();
+    }
+
+    /**
+     * Per-file formatting latency distribution.
+     *
+     * @return formatted source.
+     * @throws BadLocationException on an edit outside the source text.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String latency() throws BadLocationException {
+        return this.format();
+    }
+
+    private String format() throws BadLocationException {
+        final String source = this.sources.get(this.next);
+        this.next = (this.next + 1) % this.sources.size();
+        return this.formatter.format(source);
+    }
+}
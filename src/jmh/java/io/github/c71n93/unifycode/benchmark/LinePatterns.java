@@ -0,0 +1,93 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Bundled single-line Checkstyle patterns, matched against the lines of a file the way {@code RegexpSingleline}
+ * matches them.
+ */
+final class LinePatterns {
+    /**
+     * Matchers of the patterns, one per {@code RegexpSingleline} module.
+     */
+    private final List<Matcher> matchers;
+
+    /**
+     * Matcher of all patterns combined into one alternation.
+     */
+    private final Matcher union;
+
+    /**
+     * New patterns.
+     *
+     * @param formats {@code format} properties of the {@code RegexpSingleline} modules.
+     */
+    /* default */ LinePatterns(final List<String> formats) {
+        this.matchers = formats.stream().map(format -> Pattern.compile(format).matcher("")).toList();
+        this.union = Pattern.compile(
+            formats.stream().map(format -> "(?:" + format + ")").collect(Collectors.joining("|"))
+        ).matcher("");
+    }
+
+    /**
+     * Matches every pattern in its own pass over the lines, as one module per pattern does.
+     *
+     * @param lines file lines.
+     * @return number of matched lines, counted once per pattern.
+     */
+    /* default */ int modules(final List<String> lines) {
+        int matches = 0;
+        for (final Matcher matcher : this.matchers) {
+            for (final String line : lines) {
+                if (matcher.reset(line).find()) {
+                    ++matches;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Matches every pattern against each line in a single pass over the lines.
+     *
+     * @param lines file lines.
+     * @return number of matched lines, counted once per pattern.
+     */
+    /* default */ int lines(final List<String> lines) {
+        int matches = 0;
+        for (final String line : lines) {
+            matches += this.matching(line);
+        }
+        return matches;
+    }
+
+    /**
+     * Matches each line against the combined alternation first, and against the single patterns only when it matches,
+     * to tell which of them to report.
+     *
+     * @param lines file lines.
+     * @return number of matched lines, counted once per pattern.
+     */
+    /* default */ int union(final List<String> lines) {
+        int matches = 0;
+        for (final String line : lines) {
+            if (this.union.reset(line).find()) {
+                matches += this.matching(line);
+            }
+        }
+        return matches;
+    }
+
+    private int matching(final String line) {
+        int matches = 0;
+        for (final Matcher matcher : this.matchers) {
+            if (matcher.reset(line).find()) {
+                ++matches;
+            }
+        }
+        return matches;
+    }
+}
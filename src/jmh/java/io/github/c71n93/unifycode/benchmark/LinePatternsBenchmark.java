@@ -0,0 +1,96 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import com.puppycrawl.tools.checkstyle.api.CheckstyleException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matching of the bundled single-line Checkstyle patterns against single corpus files, one pass per pattern as the
+ * {@code RegexpSingleline} modules do, or combined into a single pass over the lines.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LinePatternsBenchmark {
+    /**
+     * Matching layout: {@code modules} for one pass per pattern, {@code lines} for one pass testing every pattern on
+     * each line, {@code union} for one pass with a combined alternation in front of the single patterns.
+     */
+    @Param({"modules", "lines", "union"})
+    private String layout;
+
+    /**
+     * Lines of each corpus file, read once as Checkstyle reads them once for all modules.
+     */
+    private List<List<String>> files;
+
+    /**
+     * Bundled single-line patterns.
+     */
+    private LinePatterns patterns;
+
+    /**
+     * Index of the next corpus file.
+     */
+    private int next;
+
+    /**
+     * Reads the corpus and the bundled patterns.
+     *
+     * @throws IOException on corpus or configuration write failure.
+     * @throws CheckstyleException on configuration load failure.
+     */
+    @Setup
+    public void setUp() throws IOException, CheckstyleException {
+        final Corpus corpus = new Corpus(Files.createTempDirectory("unifycode-line-patterns"));
+        this.files = new ArrayList<>(Corpus.GENERATED);
+        for (final File file : corpus.write(Corpus.GENERATED)) {
+            this.files.add(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+        }
+        corpus.delete();
+        this.patterns = new LinePatterns(
+            CheckstyleModules.load(
+                new BundledConfig(Files.createTempDirectory("unifycode-line-patterns-config"))
+            ).lineFormats()
+        );
+    }
+
+    /**
+     * Matched files per second.
+     *
+     * @return number of matched lines.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int throughput() {
+        final List<String> lines = this.files.get(this.next);
+        this.next = (this.next + 1) % this.files.size();
+        final int matches;
+        if ("modules".equals(this.layout)) {
+            matches = this.patterns.modules(lines);
+        } else if ("lines".equals(this.layout)) {
+            matches = this.patterns.lines(lines);
+        } else {
+            matches = this.patterns.union(lines);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.File;
+import java.util.List;
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import net.sourceforge.pmd.lang.rule.RuleSet;
+
+/**
+ * In-process PMD analysis with the bundled rulesets.
+ */
+final class PmdAnalyzer {
+    /**
+     * Analysis configuration.
+     */
+    private final PMDConfiguration configuration;
+
+    /**
+     * New analyzer running on the calling thread without an analysis cache.
+     */
+    /* default */ PmdAnalyzer() {
+        this(PmdAnalyzer.configuration());
+    }
+
+    /**
+     * New analyzer.
+     *
+     * @param configuration analysis configuration.
+     */
+    /* default */ PmdAnalyzer(final PMDConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Parses the bundled ruleset.
+     *
+     * @return bundled ruleset.
+     */
+    /* default */ RuleSet bundled() {
+        return this.load(BundledConfig.PMD);
+    }
+
+    /**
+     * Parses a ruleset resource.
+     *
+     * @param resource ruleset resource path.
+     * @return ruleset.
+     */
+    /* default */ RuleSet load(final String resource) {
+        return this.configuration.newRuleSetLoader().loadFromResource(resource);
+    }
+
+    /**
+     * Analyzes files with an already parsed ruleset.
+     *
+     * @param rules ruleset.
+     * @param files source files.
+     * @return number of violations.
+     */
+    /* default */ int violations(final RuleSet rules, final List<File> files) {
+        try (PmdAnalysis analysis = PmdAnalysis.create(this.configuration)) {
+            analysis.addRuleSet(rules);
+            for (final File file : files) {
+                analysis.files().addFile(file.toPath());
+            }
+            return analysis.performAnalysisAndCollectReport().getViolations().size();
+        }
+    }
+
+    private static PMDConfiguration configuration() {
+        final PMDConfiguration configuration = new PMDConfiguration();
+        configuration.setThreads(0);
+        configuration.setIgnoreIncrementalAnalysis(true);
+        return configuration;
+    }
+}
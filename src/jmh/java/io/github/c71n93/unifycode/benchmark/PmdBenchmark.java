@@ -0,0 +1,106 @@
+package io.github.c71n93.unifycode.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.pmd.lang.rule.RuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * PMD analysis of single corpus files with the bundled ruleset.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PmdBenchmark {
+    /**
+     * Benchmark corpus.
+     */
+    private Corpus corpus;
+
+    /**
+     * Corpus files.
+     */
+    private List<File> files;
+
+    /**
+     * Analyzer.
+     */
+    private PmdAnalyzer analyzer;
+
+    /**
+     * Bundled ruleset, parsed once.
+     */
+    private RuleSet rules;
+
+    /**
+     * Index of the next corpus file.
+     */
+    private int next;
+
+    /**
+     * Writes the corpus and parses the bundled ruleset.
+     *
+     * @throws IOException on corpus write failure.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.corpus = new Corpus(Files.createTempDirectory("unifycode-pmd"));
+        this.files = this.corpus.write(Corpus.GENERATED);
+        this.analyzer = new PmdAnalyzer();
+        this.rules = this.analyzer.bundled();
+    }
+
+    /**
+     * Deletes the corpus.
+     *
+     * @throws IOException on corpus deletion failure.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.corpus.delete();
+    }
+
+    /**
+     * Analyzed files per second.
+     *
+     * @return number of violations.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int throughput() {
+        return this.analyze();
+    }
+
+    /**
+     * Per-file analysis latency distribution.
+     *
+     * @return number of violations.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int latency() {
+        return this.analyze();
+    }
+
+    private int analyze() {
+        final File file = this.files.get(this.next);
+        this.next = (this.next + 1) % this.files.size();
+        return this.analyzer.violations(this.rules, List.of(file));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the bundled tool configurations.
+ */
+package io.github.c71n93.unifycode.benchmark;
@@ -2,11 +2,21 @@ package io.github.c71n93.unifycode.gradle;
 
 import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
 import io.github.c71n93.unifycode.gradle.task.UnifycodeTasks;
+import io.github.c71n93.unifycode.gradle.tool.AnalysisPoolTool;
+import io.github.c71n93.unifycode.gradle.tool.BaselineTool;
 import io.github.c71n93.unifycode.gradle.tool.CheckstyleTool;
+import io.github.c71n93.unifycode.gradle.tool.DuplicatesTool;
+import io.github.c71n93.unifycode.gradle.tool.GeneratedTool;
 import io.github.c71n93.unifycode.gradle.tool.PmdTool;
+import io.github.c71n93.unifycode.gradle.tool.ProfileTool;
+import io.github.c71n93.unifycode.gradle.tool.RatchetTool;
+import io.github.c71n93.unifycode.gradle.tool.SarifTool;
 import io.github.c71n93.unifycode.gradle.tool.SpotlessTool;
+import io.github.c71n93.unifycode.gradle.tool.StagedTool;
+import io.github.c71n93.unifycode.gradle.tool.WatchTool;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
+import org.gradle.api.tasks.SourceSetContainer;
 
 /**
  * Gradle plugin entry point for Unifycode quality tooling.
@@ -19,13 +29,23 @@ public final class UnifycodeGradlePlugin implements Plugin<Project> {
             UnifycodeExtension.class
         );
         project.getPluginManager().withPlugin("java-base", plugin -> {
-            new UnifycodeTasks(project.getTasks()).configure();
-            project.afterEvaluate(ignored -> {
-                new CheckstyleTool(project).configure();
-                new PmdTool(project).configure();
-                new SpotlessTool(project).configure();
-                project.getTasks().named("check").configure(task -> task.dependsOn("unifycodeCheck"));
-            });
+            new UnifycodeTasks(
+                project.getTasks(),
+                project.getExtensions().getByType(SourceSetContainer.class)
+            ).configure();
+            new CheckstyleTool(project).configure();
+            new PmdTool(project).configure();
+            new GeneratedTool(project).configure();
+            new SpotlessTool(project).configure();
+            new DuplicatesTool(project).configure();
+            new RatchetTool(project).configure();
+            new BaselineTool(project).configure();
+            new StagedTool(project).configure();
+            new WatchTool(project).configure();
+            new ProfileTool(project).configure();
+            new AnalysisPoolTool(project).configure();
+            new SarifTool(project).configure();
+            project.getTasks().named("check").configure(task -> task.dependsOn("unifycodeCheck"));
         });
     }
 }
@@ -0,0 +1,52 @@
+package io.github.c71n93.unifycode.gradle.extension;
+
+import javax.inject.Inject;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+
+/**
+ * Checkstyle policy.
+ */
+public class CheckstylePolicy extends QualityToolPolicy {
+    /**
+     * Result cache flag.
+     */
+    private final Property<Boolean> cache;
+
+    /**
+     * Tool version.
+     */
+    private final Property<String> toolVersion;
+
+    /**
+     * New policy with Gradle-managed properties.
+     *
+     * @param objects gradle object factory.
+     */
+    @Inject
+    public CheckstylePolicy(final ObjectFactory objects) {
+        super(objects);
+        this.cache = objects.property(Boolean.class).convention(true);
+        this.toolVersion = objects.property(String.class);
+    }
+
+    /**
+     * Result cache property. When enabled, Checkstyle keeps a per-task cache under {@code build/unifycode} and skips
+     * files that did not change since they last passed. When disabled, the cache is deleted before each run.
+     *
+     * @return result cache property.
+     */
+    public Property<Boolean> getCache() {
+        return this.cache;
+    }
+
+    /**
+     * Checkstyle version. It defaults to {@code checkstyle.toolVersion}, which Unifycode sets to 10.24.0, the version
+     * the bundled configuration is tested with.
+     *
+     * @return tool version property.
+     */
+    public Property<String> getToolVersion() {
+        return this.toolVersion;
+    }
+}
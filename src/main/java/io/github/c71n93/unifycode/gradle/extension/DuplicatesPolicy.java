@@ -0,0 +1,83 @@
+package io.github.c71n93.unifycode.gradle.extension;
+
+import javax.inject.Inject;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Duplicate code detection policy. Detection only reads main sources and runs in the Gradle daemon, so unlike the
+ * analysis tool policies it has no source set policies and no worker settings.
+ */
+public class DuplicatesPolicy {
+    /**
+     * Detection flag.
+     */
+    private final Property<Boolean> enabled;
+
+    /**
+     * Minimum duplicate size in normalized lines.
+     */
+    private final Property<Integer> minLines;
+
+    /**
+     * Strictness flag.
+     */
+    private final Property<Boolean> strict;
+
+    /**
+     * Excluded path globs.
+     */
+    private final ListProperty<String> excludes;
+
+    /**
+     * New policy with Gradle-managed properties.
+     *
+     * @param objects gradle object factory.
+     */
+    @Inject
+    public DuplicatesPolicy(final ObjectFactory objects) {
+        this.enabled = objects.property(Boolean.class).convention(false);
+        this.minLines = objects.property(Integer.class).convention(10);
+        this.strict = objects.property(Boolean.class).convention(true);
+        this.excludes = objects.listProperty(String.class);
+    }
+
+    /**
+     * Detection property. When enabled, {@code unifycodeCheck} reports main source blocks duplicated within the project
+     * or in the main sources of any other project of the build that applies Unifycode.
+     *
+     * @return detection property.
+     */
+    public Property<Boolean> getEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Minimum duplicate size. Lines are counted after dropping blank lines, comments, imports and package
+     * declarations.
+     *
+     * @return minimum duplicate size property.
+     */
+    public Property<Integer> getMinLines() {
+        return this.minLines;
+    }
+
+    /**
+     * Strictness property. Duplicates only fail the build when detection is strict.
+     *
+     * @return strictness property.
+     */
+    public Property<Boolean> getStrict() {
+        return this.strict;
+    }
+
+    /**
+     * Main source path globs left out of detection, relative to the project directory.
+     *
+     * @return excluded path globs property.
+     */
+    public ListProperty<String> getExcludes() {
+        return this.excludes;
+    }
+}
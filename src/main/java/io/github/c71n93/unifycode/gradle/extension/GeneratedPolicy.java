@@ -0,0 +1,86 @@
+package io.github.c71n93.unifycode.gradle.extension;
+
+import java.util.List;
+import javax.inject.Inject;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Policy for generated and oversized Java sources, which Checkstyle and PMD would otherwise parse into syntax trees.
+ */
+public class GeneratedPolicy {
+    /**
+     * Routing flag.
+     */
+    private final Property<Boolean> enabled;
+
+    /**
+     * Largest file size, in bytes, that Checkstyle and PMD analyze.
+     */
+    private final Property<Long> maxFileSize;
+
+    /**
+     * Generated code markers.
+     */
+    private final ListProperty<String> markers;
+
+    /**
+     * Line check flag.
+     */
+    private final Property<Boolean> lineChecks;
+
+    /**
+     * New policy with Gradle-managed properties.
+     *
+     * @param objects gradle object factory.
+     */
+    @Inject
+    public GeneratedPolicy(final ObjectFactory objects) {
+        this.enabled = objects.property(Boolean.class).convention(false);
+        this.maxFileSize = objects.property(Long.class).convention(1_048_576L);
+        this.markers = objects.listProperty(String.class).convention(List.of("@Generated", "DO NOT EDIT"));
+        this.lineChecks = objects.property(Boolean.class).convention(true);
+    }
+
+    /**
+     * Routing property. When enabled, generated and oversized files are left out of Checkstyle and PMD and get the
+     * line checks instead. It is disabled by default, so Checkstyle and PMD keep analyzing every file unless a build
+     * opts in.
+     *
+     * @return routing property.
+     */
+    public Property<Boolean> getEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Largest file size, in bytes, that Checkstyle and PMD analyze, 1 MiB by default. Larger files are treated as
+     * generated.
+     *
+     * @return maximum file size property.
+     */
+    public Property<Long> getMaxFileSize() {
+        return this.maxFileSize;
+    }
+
+    /**
+     * Generated code markers. A file is treated as generated when one of them occurs before its first opening brace,
+     * that is in its header comment, imports, or type annotations. Only those lines are read.
+     *
+     * @return generated code markers property.
+     */
+    public ListProperty<String> getMarkers() {
+        return this.markers;
+    }
+
+    /**
+     * Line check property. When enabled, generated files get the line-based Checkstyle checks, which read the file as
+     * lines without building a syntax tree. When disabled, generated files are not checked at all.
+     *
+     * @return line check property.
+     */
+    public Property<Boolean> getLineChecks() {
+        return this.lineChecks;
+    }
+}
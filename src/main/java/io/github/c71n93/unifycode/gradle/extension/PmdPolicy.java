@@ -0,0 +1,85 @@
+package io.github.c71n93.unifycode.gradle.extension;
+
+import javax.inject.Inject;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
+
+/**
+ * PMD policy.
+ */
+public class PmdPolicy extends QualityToolPolicy {
+    /**
+     * Incremental analysis flag.
+     */
+    private final Property<Boolean> incremental;
+
+    /**
+     * Analysis thread count.
+     */
+    private final Property<Integer> threads;
+
+    /**
+     * Type resolution flag.
+     */
+    private final Property<Boolean> typeResolution;
+
+    /**
+     * Tool version.
+     */
+    private final Property<String> toolVersion;
+
+    /**
+     * New policy with Gradle-managed properties.
+     *
+     * @param objects gradle object factory.
+     */
+    @Inject
+    public PmdPolicy(final ObjectFactory objects) {
+        super(objects);
+        this.incremental = objects.property(Boolean.class).convention(true);
+        this.threads = objects.property(Integer.class).convention(1);
+        this.typeResolution = objects.property(Boolean.class).convention(true);
+        this.toolVersion = objects.property(String.class);
+    }
+
+    /**
+     * Incremental analysis property. When enabled, PMD keeps a per-task analysis cache and only re-analyzes files
+     * whose content changed since the previous run. PMD discards the cache itself when the ruleset, the PMD version,
+     * or the analysis classpath changes.
+     *
+     * @return incremental analysis property.
+     */
+    public Property<Boolean> getIncremental() {
+        return this.incremental;
+    }
+
+    /**
+     * Analysis thread count. PMD analyzes the files of each task on this many threads inside its worker process.
+     *
+     * @return analysis thread count property.
+     */
+    public Property<Integer> getThreads() {
+        return this.threads;
+    }
+
+    /**
+     * Type resolution property. When enabled, PMD reads the compiled classes and the compile classpath of the source
+     * set to resolve types. When disabled, PMD gets no classpath: analysis reads no dependency jars, and rules that
+     * need types report less.
+     *
+     * @return type resolution property.
+     */
+    public Property<Boolean> getTypeResolution() {
+        return this.typeResolution;
+    }
+
+    /**
+     * PMD version. It defaults to {@code pmd.toolVersion}, which Unifycode sets to 7.0.0, the version the bundled
+     * configuration is tested with. It must be a PMD 7 release, the version the bundled custom rules are built against.
+     *
+     * @return tool version property.
+     */
+    public Property<String> getToolVersion() {
+        return this.toolVersion;
+    }
+}
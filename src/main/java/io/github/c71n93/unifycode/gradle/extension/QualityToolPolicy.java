@@ -1,8 +1,14 @@
 package io.github.c71n93.unifycode.gradle.extension;
 
+import java.util.ArrayList;
+import java.util.List;
 import javax.inject.Inject;
+import org.gradle.api.Action;
+import org.gradle.api.NamedDomainObjectContainer;
 import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
 
 /**
  * Quality tool policy.
@@ -13,6 +19,21 @@ public class QualityToolPolicy {
      */
     private final Property<Boolean> strict;
 
+    /**
+     * Analysis worker process maximum heap size.
+     */
+    private final Property<String> maxHeapSize;
+
+    /**
+     * Excluded path globs.
+     */
+    private final ListProperty<String> excludes;
+
+    /**
+     * Source set policies.
+     */
+    private final NamedDomainObjectContainer<SourceSetPolicy> sourceSets;
+
     /**
      * New policy with Gradle-managed properties.
      *
@@ -21,6 +42,9 @@ public class QualityToolPolicy {
     @Inject
     public QualityToolPolicy(final ObjectFactory objects) {
         this.strict = objects.property(Boolean.class).convention(true);
+        this.maxHeapSize = objects.property(String.class);
+        this.excludes = objects.listProperty(String.class);
+        this.sourceSets = objects.domainObjectContainer(SourceSetPolicy.class);
     }
 
     /**
@@ -33,11 +57,82 @@ public class QualityToolPolicy {
     }
 
     /**
-     * Non-failing violations flag.
+     * Maximum heap size of the analysis worker process, for example {@code 2g}. When unset, Gradle's default for the
+     * task applies. Gradle takes no other worker JVM arguments for Checkstyle and PMD tasks.
+     *
+     * @return maximum heap size property.
+     */
+    public Property<String> getMaxHeapSize() {
+        return this.maxHeapSize;
+    }
+
+    /**
+     * Path globs excluded from the tool, relative to the project directory, for example {@code build/generated/**}.
+     * The globs are compiled once per task, and matching files are left out of the task sources, so the tool never
+     * reads them.
+     *
+     * @return excluded path globs property.
+     */
+    public ListProperty<String> getExcludes() {
+        return this.excludes;
+    }
+
+    /**
+     * Source set policies, overriding this policy for the tasks of their source sets.
      *
+     * @return source set policies.
+     */
+    public NamedDomainObjectContainer<SourceSetPolicy> getSourceSets() {
+        return this.sourceSets;
+    }
+
+    /**
+     * Configures the policy of a source set.
+     *
+     * @param name source set name.
+     * @param action policy action.
+     */
+    public void sourceSet(final String name, final Action<? super SourceSetPolicy> action) {
+        action.execute(this.sourceSets.maybeCreate(name));
+    }
+
+    /**
+     * Non-failing violations flag of a source set. The source set policy is looked up when the flag is read, so
+     * policies declared after the tasks are created still apply.
+     *
+     * @param name source set name, or an empty string for tasks outside source sets.
      * @return non-failing violations flag.
      */
-    public boolean ignoresFailures() {
-        return !this.strict.get();
+    public Provider<Boolean> ignoresFailures(final String name) {
+        return this.strict.map(
+            own -> {
+                final SourceSetPolicy policy = this.sourceSets.findByName(name);
+                boolean strictness = own;
+                if (policy != null) {
+                    strictness = policy.getStrict().getOrElse(own);
+                }
+                return !strictness;
+            }
+        );
+    }
+
+    /**
+     * Path globs excluded from a source set: the globs of this policy followed by the globs of the source set policy.
+     * The source set policy is looked up when the globs are read.
+     *
+     * @param name source set name, or an empty string for tasks outside source sets.
+     * @return excluded path globs.
+     */
+    public Provider<List<String>> excludes(final String name) {
+        return this.excludes.map(
+            own -> {
+                final List<String> all = new ArrayList<>(own);
+                final SourceSetPolicy policy = this.sourceSets.findByName(name);
+                if (policy != null) {
+                    all.addAll(policy.getExcludes().get());
+                }
+                return all;
+            }
+        );
     }
 }
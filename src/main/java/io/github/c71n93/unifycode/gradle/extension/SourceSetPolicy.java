@@ -0,0 +1,63 @@
+package io.github.c71n93.unifycode.gradle.extension;
+
+import javax.inject.Inject;
+import org.gradle.api.Named;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.provider.Property;
+
+/**
+ * Quality tool policy of one source set, overriding the policy of the tool.
+ */
+public class SourceSetPolicy implements Named {
+    /**
+     * Source set name.
+     */
+    private final String name;
+
+    /**
+     * Strictness flag, absent when the tool strictness applies.
+     */
+    private final Property<Boolean> strict;
+
+    /**
+     * Excluded path globs, added to the excludes of the tool.
+     */
+    private final ListProperty<String> excludes;
+
+    /**
+     * New policy with Gradle-managed properties.
+     *
+     * @param name source set name.
+     * @param objects gradle object factory.
+     */
+    @Inject
+    public SourceSetPolicy(final String name, final ObjectFactory objects) {
+        this.name = name;
+        this.strict = objects.property(Boolean.class);
+        this.excludes = objects.listProperty(String.class);
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Strictness property. When unset, the source set is as strict as the tool policy.
+     *
+     * @return strictness property.
+     */
+    public Property<Boolean> getStrict() {
+        return this.strict;
+    }
+
+    /**
+     * Path globs excluded from the source set, in addition to the excludes of the tool policy.
+     *
+     * @return excluded path globs property.
+     */
+    public ListProperty<String> getExcludes() {
+        return this.excludes;
+    }
+}
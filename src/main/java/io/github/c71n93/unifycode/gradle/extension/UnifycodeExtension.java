@@ -2,7 +2,9 @@ package io.github.c71n93.unifycode.gradle.extension;
 
 import javax.inject.Inject;
 import org.gradle.api.Action;
+import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.provider.Property;
 
 /**
  * Gradle extension for Unifycode configuration.
@@ -12,12 +14,32 @@ public class UnifycodeExtension {
     /**
      * Checkstyle policy.
      */
-    private final QualityToolPolicy checkstyle;
+    private final CheckstylePolicy checkstyle;
 
     /**
      * PMD policy.
      */
-    private final QualityToolPolicy pmd;
+    private final PmdPolicy pmd;
+
+    /**
+     * Duplicate code detection policy.
+     */
+    private final DuplicatesPolicy duplicates;
+
+    /**
+     * Generated source policy.
+     */
+    private final GeneratedPolicy generated;
+
+    /**
+     * Git ref quality checks are narrowed to.
+     */
+    private final Property<String> ratchetFrom;
+
+    /**
+     * Baseline file of accepted violations.
+     */
+    private final RegularFileProperty baseline;
 
     /**
      * New extension with nested quality tool policies.
@@ -26,8 +48,12 @@ public class UnifycodeExtension {
      */
     @Inject
     public UnifycodeExtension(final ObjectFactory objects) {
-        this.checkstyle = objects.newInstance(QualityToolPolicy.class);
-        this.pmd = objects.newInstance(QualityToolPolicy.class);
+        this.checkstyle = objects.newInstance(CheckstylePolicy.class);
+        this.pmd = objects.newInstance(PmdPolicy.class);
+        this.duplicates = objects.newInstance(DuplicatesPolicy.class);
+        this.generated = objects.newInstance(GeneratedPolicy.class);
+        this.ratchetFrom = objects.property(String.class);
+        this.baseline = objects.fileProperty();
     }
 
     /**
@@ -35,7 +61,7 @@ public class UnifycodeExtension {
      *
      * @return checkstyle policy.
      */
-    public QualityToolPolicy getCheckstyle() {
+    public CheckstylePolicy getCheckstyle() {
         return this.checkstyle;
     }
 
@@ -44,7 +70,7 @@ public class UnifycodeExtension {
      *
      * @param action policy action.
      */
-    public void checkstyle(final Action<? super QualityToolPolicy> action) {
+    public void checkstyle(final Action<? super CheckstylePolicy> action) {
         action.execute(this.checkstyle);
     }
 
@@ -53,7 +79,7 @@ public class UnifycodeExtension {
      *
      * @return PMD policy.
      */
-    public QualityToolPolicy getPmd() {
+    public PmdPolicy getPmd() {
         return this.pmd;
     }
 
@@ -62,7 +88,63 @@ public class UnifycodeExtension {
      *
      * @param action policy action.
      */
-    public void pmd(final Action<? super QualityToolPolicy> action) {
+    public void pmd(final Action<? super PmdPolicy> action) {
         action.execute(this.pmd);
     }
+
+    /**
+     * Duplicate code detection policy.
+     *
+     * @return duplicate code detection policy.
+     */
+    public DuplicatesPolicy getDuplicates() {
+        return this.duplicates;
+    }
+
+    /**
+     * Configures duplicate code detection policy.
+     *
+     * @param action policy action.
+     */
+    public void duplicates(final Action<? super DuplicatesPolicy> action) {
+        action.execute(this.duplicates);
+    }
+
+    /**
+     * Generated source policy.
+     *
+     * @return generated source policy.
+     */
+    public GeneratedPolicy getGenerated() {
+        return this.generated;
+    }
+
+    /**
+     * Configures generated source policy.
+     *
+     * @param action policy action.
+     */
+    public void generated(final Action<? super GeneratedPolicy> action) {
+        action.execute(this.generated);
+    }
+
+    /**
+     * Git ref quality checks are narrowed to. When set, Spotless, Checkstyle and PMD only check files changed against
+     * this ref, for example {@code origin/main}.
+     *
+     * @return ratchet ref property.
+     */
+    public Property<String> getRatchetFrom() {
+        return this.ratchetFrom;
+    }
+
+    /**
+     * Baseline file of accepted Checkstyle and PMD violations. When set, the violations recorded by
+     * {@code unifycodeBaseline} are accepted and only new violations fail the build.
+     *
+     * @return baseline file property.
+     */
+    public RegularFileProperty getBaseline() {
+        return this.baseline;
+    }
 }
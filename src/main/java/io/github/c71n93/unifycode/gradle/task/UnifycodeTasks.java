@@ -1,10 +1,17 @@
 package io.github.c71n93.unifycode.gradle.task;
 
+import io.github.c71n93.unifycode.gradle.tool.BaselineCheckTask;
+import io.github.c71n93.unifycode.gradle.tool.DuplicatesTask;
+import io.github.c71n93.unifycode.gradle.tool.SarifReportTask;
+import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.concurrent.Callable;
 import org.gradle.api.Task;
 import org.gradle.api.plugins.quality.Checkstyle;
 import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
 import org.gradle.api.tasks.TaskContainer;
 
 /**
@@ -16,13 +23,20 @@ public final class UnifycodeTasks {
      */
     private final TaskContainer tasks;
 
+    /**
+     * Project source sets.
+     */
+    private final SourceSetContainer sources;
+
     /**
      * New helper task registration.
      *
      * @param tasks gradle task container.
+     * @param sources project source sets.
      */
-    public UnifycodeTasks(final TaskContainer tasks) {
+    public UnifycodeTasks(final TaskContainer tasks, final SourceSetContainer sources) {
         this.tasks = tasks;
+        this.sources = sources;
     }
 
     /**
@@ -41,23 +55,92 @@ public final class UnifycodeTasks {
             task.dependsOn((Callable<Iterable<? extends Task>>) this::spotlessCheckTasks);
             task.dependsOn((Callable<Iterable<? extends Task>>) this::checkstyleTasks);
             task.dependsOn((Callable<Iterable<? extends Task>>) this::pmdTasks);
+            task.dependsOn((Callable<Iterable<? extends Task>>) this::duplicatesTasks);
+            task.dependsOn((Callable<Iterable<? extends Task>>) this::baselineTasks);
+            task.finalizedBy((Callable<Iterable<? extends Task>>) this::reportTasks);
         });
     }
 
     private Iterable<? extends Task> spotlessApplyTasks() {
-        return this.taskNamed("spotlessApply");
+        return this.formattingTask("spotlessApply");
     }
 
     private Iterable<? extends Task> spotlessCheckTasks() {
-        return this.taskNamed("spotlessCheck");
+        return this.formattingTask("spotlessCheck");
     }
 
     private Iterable<? extends Task> checkstyleTasks() {
-        return this.tasks.withType(Checkstyle.class);
+        return this.tasks.withType(Checkstyle.class).matching(task -> this.analyzed(task, "checkstyle"));
     }
 
     private Iterable<? extends Task> pmdTasks() {
-        return this.tasks.withType(Pmd.class);
+        return this.tasks.withType(Pmd.class).matching(task -> this.analyzed(task, "pmd"));
+    }
+
+    /**
+     * Spotless task, left out when no source set has Java sources to format.
+     *
+     * @param name task name.
+     * @return the task, or nothing.
+     */
+    private Iterable<? extends Task> formattingTask(final String name) {
+        Iterable<? extends Task> task = Collections.emptyList();
+        if (this.sources.stream().anyMatch(UnifycodeTasks::hasJava)) {
+            task = this.taskNamed(name);
+        }
+        return task;
+    }
+
+    /**
+     * Whether an analysis task has sources to analyze. Tasks of source sets without Java sources are left out, while
+     * tasks that belong to no source set are always kept.
+     *
+     * @param task analysis task.
+     * @param verb task name prefix of the tool.
+     * @return whether the task has sources.
+     */
+    private boolean analyzed(final Task task, final String verb) {
+        return this.sources.stream()
+            .filter(set -> set.getTaskName(verb, null).equals(task.getName()))
+            .allMatch(UnifycodeTasks::hasJava);
+    }
+
+    /**
+     * Whether a source set has Java sources, now or once the tasks generating them have run. The source directories
+     * are listed with plain file operations, which the configuration cache records, so a cached task graph is
+     * dropped as soon as a listed directory changes. The search stops at the first Java file and lists the files of a
+     * directory before its subdirectories, in name order, so a source set with sources only records the few
+     * directories on the way to its first one.
+     *
+     * @param set source set.
+     * @return whether the source set has Java sources.
+     */
+    private static boolean hasJava(final SourceSet set) {
+        return !set.getAllJava().getBuildDependencies().getDependencies(null).isEmpty()
+            || set.getAllJava().getSrcDirs().stream().anyMatch(UnifycodeTasks::containsJava);
+    }
+
+    private static boolean containsJava(final File directory) {
+        final File[] children = directory.listFiles();
+        boolean found = false;
+        if (children != null) {
+            Arrays.sort(children);
+            found = Arrays.stream(children).anyMatch(child -> child.isFile() && child.getName().endsWith(".java"))
+                || Arrays.stream(children).filter(File::isDirectory).anyMatch(UnifycodeTasks::containsJava);
+        }
+        return found;
+    }
+
+    private Iterable<? extends Task> duplicatesTasks() {
+        return this.tasks.withType(DuplicatesTask.class).matching(Task::getEnabled);
+    }
+
+    private Iterable<? extends Task> baselineTasks() {
+        return this.tasks.withType(BaselineCheckTask.class).matching(Task::getEnabled);
+    }
+
+    private Iterable<? extends Task> reportTasks() {
+        return this.tasks.withType(SarifReportTask.class);
     }
 
     private Iterable<? extends Task> taskNamed(final String name) {
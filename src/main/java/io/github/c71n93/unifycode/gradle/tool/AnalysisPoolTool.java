@@ -0,0 +1,93 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.provider.Provider;
+
+/**
+ * Opt-in build-wide limit on concurrent Checkstyle and PMD tasks, enabled with the {@code unifycode.analysisWorkers}
+ * Gradle property.
+ */
+public final class AnalysisPoolTool {
+    /**
+     * Gradle property holding the number of analysis workers of the build.
+     */
+    private static final String PROPERTY = "unifycode.analysisWorkers";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Number of analysis workers as set in the Gradle property, absent when analysis tasks are not limited.
+     */
+    private final Provider<String> workers;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param workers number of analysis workers as set in the Gradle property.
+     */
+    public AnalysisPoolTool(final ToolProject project, final Provider<String> workers) {
+        this.project = project;
+        this.workers = workers;
+    }
+
+    /**
+     * New tool configured with an explicit project facade and the worker count of the build.
+     *
+     * @param project project facade.
+     */
+    public AnalysisPoolTool(final ToolProject project) {
+        this(project, project.gradleProperty(AnalysisPoolTool.PROPERTY));
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public AnalysisPoolTool(final Project project) {
+        this(new ToolProject(project));
+    }
+
+    /**
+     * Makes every Checkstyle and PMD task take a slot of the shared analysis service when a worker count is set.
+     */
+    public void configure() {
+        if (this.workers.isPresent()) {
+            final int slots = AnalysisPoolTool.workers(this.workers.get());
+            final Provider<AnalysisService> service = this.project.analysisService(slots);
+            this.project.configureTasks(Checkstyle.class, task -> task.usesService(service));
+            this.project.configureTasks(Pmd.class, task -> task.usesService(service));
+        }
+    }
+
+    /**
+     * Parses the worker count of the build.
+     *
+     * @param value property value.
+     * @return positive number of analysis workers.
+     */
+    private static int workers(final String value) {
+        final int workers;
+        try {
+            workers = Integer.parseInt(value.trim());
+        } catch (final NumberFormatException exception) {
+            throw new GradleException(
+                "Gradle property " + AnalysisPoolTool.PROPERTY + " must be a positive number, got: " + value,
+                exception
+            );
+        }
+        if (workers < 1) {
+            throw new GradleException(
+                "Gradle property " + AnalysisPoolTool.PROPERTY + " must be a positive number, got: " + value
+            );
+        }
+        return workers;
+    }
+}
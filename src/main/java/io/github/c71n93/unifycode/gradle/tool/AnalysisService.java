@@ -0,0 +1,12 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build-wide pool of analysis slots shared by the Checkstyle and PMD tasks of every project. Gradle runs at most
+ * {@code maxParallelUsages} of these tasks at once, so the whole build keeps reusing the same few warm worker
+ * processes.
+ */
+public abstract class AnalysisService implements BuildService<BuildServiceParameters.None> {
+}
@@ -0,0 +1,159 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Fingerprints of quality tool results. A fingerprint hashes the rule, the file and the whitespace-normalized content
+ * of the reported line, so it does not change when lines above the violation are added or removed.
+ */
+final class Baseline implements Results {
+    /**
+     * Whitespace run pattern.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Number of digest bytes kept in a fingerprint.
+     */
+    private static final int BYTES = 16;
+
+    /**
+     * Root project directory result paths are relative to.
+     */
+    private final Path root;
+
+    /**
+     * Fingerprinted results in the order they were read.
+     */
+    private final List<Violation> violations;
+
+    /**
+     * Result file the lines are cached for.
+     */
+    private String file;
+
+    /**
+     * Cached lines of the last result file.
+     */
+    private List<String> lines;
+
+    /**
+     * New empty baseline.
+     *
+     * @param root root project directory.
+     */
+    /* default */ Baseline(final Path root) {
+        this.root = root;
+        this.violations = new ArrayList<>();
+        this.file = "";
+        this.lines = Collections.emptyList();
+    }
+
+    @Override
+    public void result(
+        final String rule,
+        final String level,
+        final String message,
+        final SarifWriter.Location location
+    ) throws IOException {
+        this.violations.add(
+            new Violation(
+                this.fingerprint(rule, location),
+                String.format(Locale.ROOT, "%s:%d: [%s] %s", location.uri(), location.line(), rule, message)
+            )
+        );
+    }
+
+    /**
+     * Fingerprinted results.
+     *
+     * @return results in the order they were read.
+     */
+    /* default */ List<Violation> violations() {
+        return Collections.unmodifiableList(this.violations);
+    }
+
+    /**
+     * Sorted fingerprints of every result, one per line, as recorded in a baseline file.
+     *
+     * @return fingerprint lines.
+     */
+    /* default */ List<String> fingerprints() {
+        return this.violations.stream().map(Violation::fingerprint).sorted().collect(Collectors.toList());
+    }
+
+    /**
+     * Hashed index of a baseline file: every fingerprint mapped to the number of times it was recorded. A missing file
+     * is an empty baseline.
+     *
+     * @param baseline baseline file.
+     * @return fingerprint counts.
+     * @throws IOException on baseline read failure.
+     */
+    /* default */ static Map<String, Integer> index(final File baseline) throws IOException {
+        final Map<String, Integer> index = new HashMap<>();
+        if (baseline.isFile()) {
+            for (final String line : Files.readAllLines(baseline.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    index.merge(line.strip(), 1, Integer::sum);
+                }
+            }
+        }
+        return index;
+    }
+
+    private String fingerprint(final String rule, final SarifWriter.Location location) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", exception);
+        }
+        for (final String part : new String[] {rule, location.uri(), this.line(location)}) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, Baseline.BYTES);
+    }
+
+    private String line(final SarifWriter.Location location) throws IOException {
+        if (!location.uri().equals(this.file)) {
+            final Path path = this.root.resolve(location.uri());
+            this.file = location.uri();
+            this.lines = Collections.emptyList();
+            if (Files.isRegularFile(path)) {
+                this.lines = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).lines()
+                    .collect(Collectors.toList());
+            }
+        }
+        String line = "";
+        if (location.line() > 0 && location.line() <= this.lines.size()) {
+            line = Baseline.SPACES.matcher(this.lines.get(location.line() - 1).strip()).replaceAll(" ");
+        }
+        return line;
+    }
+
+    /**
+     * Fingerprinted result.
+     *
+     * @param fingerprint result fingerprint.
+     * @param description human-readable result location and message.
+     */
+    /* default */ record Violation(String fingerprint, String description) {
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Reports the Checkstyle and PMD violations of a project that are not recorded in its baseline file, and fails on
+ * them for strict source sets. Recorded fingerprints are looked up in a hash index, so the check stays linear in the
+ * number of violations however large the baseline is.
+ */
+@CacheableTask
+public abstract class BaselineCheckTask extends DefaultTask {
+    /**
+     * Checkstyle XML reports of the project.
+     *
+     * @return checkstyle reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getCheckstyleReports();
+
+    /**
+     * PMD XML reports of the project.
+     *
+     * @return PMD reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getPmdReports();
+
+    /**
+     * Analyzed sources, whose reported lines are part of the fingerprints.
+     *
+     * @return analyzed sources.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSources();
+
+    /**
+     * Baseline file. A missing file is an empty baseline.
+     *
+     * @return baseline file.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.NONE)
+    public abstract RegularFileProperty getBaseline();
+
+    /**
+     * Reports of the Checkstyle and PMD tasks whose source set policy is not strict. Their new violations are
+     * reported without failing the task.
+     *
+     * @return lenient reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getLenientReports();
+
+    /**
+     * Root project directory fingerprinted paths are relative to.
+     *
+     * @return root project directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    /**
+     * Report of the violations not in the baseline.
+     *
+     * @return report file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    /**
+     * Filters violations through the baseline, writes the report, and fails on new violations of strict source sets.
+     */
+    @TaskAction
+    public void check() {
+        final File report = this.getReport().get().getAsFile();
+        final List<String> lines = new ArrayList<>();
+        int failing = 0;
+        try {
+            final Map<String, Integer> index = Baseline.index(this.getBaseline().get().getAsFile());
+            final Set<File> lenient = this.getLenientReports().getFiles();
+            final List<String> checkstyle = this.fresh(
+                this.getCheckstyleReports().filter(file -> !lenient.contains(file)), true, index
+            );
+            final List<String> pmd = this.fresh(
+                this.getPmdReports().filter(file -> !lenient.contains(file)), false, index
+            );
+            failing = checkstyle.size() + pmd.size();
+            lines.addAll(checkstyle);
+            lines.addAll(this.fresh(this.getCheckstyleReports().filter(lenient::contains), true, index));
+            lines.addAll(pmd);
+            lines.addAll(this.fresh(this.getPmdReports().filter(lenient::contains), false, index));
+            Files.createDirectories(report.toPath().getParent());
+            Files.write(report.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write baseline report: " + report, exception);
+        }
+        if (failing > 0) {
+            throw new GradleException(
+                String.format(
+                    "Found %d violations not in the baseline. See the report at: %s",
+                    failing,
+                    report.toURI()
+                )
+            );
+        }
+    }
+
+    /**
+     * Violations of the given reports not in the baseline. Every baseline fingerprint accepts as many violations as
+     * times it was recorded.
+     *
+     * @param reports tool reports.
+     * @param checkstyle whether the reports are Checkstyle reports.
+     * @param index baseline index, consumed by accepted violations.
+     * @return descriptions of the new violations.
+     * @throws IOException on report or source read failure.
+     */
+    private List<String> fresh(
+        final FileCollection reports,
+        final boolean checkstyle,
+        final Map<String, Integer> index
+    ) throws IOException {
+        final Path root = this.getRootDirectory().get().getAsFile().toPath();
+        final Baseline results = new Baseline(root);
+        final XmlReports xml = new XmlReports(root, results);
+        for (final File file : reports.filter(File::isFile)) {
+            if (checkstyle) {
+                xml.checkstyle(file);
+            } else {
+                xml.pmd(file);
+            }
+        }
+        final List<String> fresh = new ArrayList<>();
+        for (final Baseline.Violation violation : results.violations()) {
+            final Integer count = index.remove(violation.fingerprint());
+            if (count == null) {
+                fresh.add(violation.description());
+            } else if (count > 1) {
+                index.put(violation.fingerprint(), count - 1);
+            }
+        }
+        return fresh;
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
+
+/**
+ * Records the fingerprints of the current Checkstyle and PMD violations of a project in its baseline file.
+ */
+@UntrackedTask(because = "The baseline is recorded on request and kept under version control")
+public abstract class BaselineTask extends DefaultTask {
+    /**
+     * Checkstyle XML reports of the project.
+     *
+     * @return checkstyle reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getCheckstyleReports();
+
+    /**
+     * PMD XML reports of the project.
+     *
+     * @return PMD reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getPmdReports();
+
+    /**
+     * Root project directory fingerprinted paths are relative to.
+     *
+     * @return root project directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    /**
+     * Setting that narrows the analyzed sources, such as a ratchet ref, absent when every source is analyzed.
+     *
+     * @return narrowing setting.
+     */
+    @Internal
+    public abstract Property<String> getNarrowedBy();
+
+    /**
+     * Baseline file.
+     *
+     * @return baseline file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getBaseline();
+
+    /**
+     * Writes the baseline file. It refuses while the analyzed sources are narrowed, since the reports then miss the
+     * violations of every source left out, and the baseline would not accept them later.
+     */
+    @TaskAction
+    public void record() {
+        if (this.getNarrowedBy().isPresent()) {
+            throw new GradleException(
+                "Cannot record a baseline while " + this.getNarrowedBy().get()
+                    + " narrows the analyzed sources. Record it without narrowing, so it covers every source."
+            );
+        }
+        final File baseline = this.getBaseline().get().getAsFile();
+        final Path root = this.getRootDirectory().get().getAsFile().toPath();
+        final Baseline results = new Baseline(root);
+        try {
+            final XmlReports xml = new XmlReports(root, results);
+            for (final File file : this.getCheckstyleReports().filter(File::isFile)) {
+                xml.checkstyle(file);
+            }
+            for (final File file : this.getPmdReports().filter(File::isFile)) {
+                xml.pmd(file);
+            }
+            Files.createDirectories(baseline.toPath().toAbsolutePath().getParent());
+            Files.write(baseline.toPath(), results.fingerprints(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write baseline: " + baseline, exception);
+        }
+        this.getLogger().lifecycle(
+            "Recorded {} violations in the baseline at: {}",
+            results.violations().size(),
+            baseline
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.extension.QualityToolPolicy;
+import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
+import java.io.File;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.quality.AbstractCodeQualityTask;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.reporting.SingleFileReport;
+
+/**
+ * Baseline of accepted Checkstyle and PMD violations. While a baseline file is configured, the tools report without
+ * failing, and the baseline check fails only on violations the baseline does not record.
+ */
+public final class BaselineTool {
+    /**
+     * Baseline recording task name.
+     */
+    private static final String RECORD = "unifycodeBaseline";
+
+    /**
+     * Baseline check task name.
+     */
+    private static final String CHECK = "unifycodeBaselineCheck";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Unifycode extension.
+     */
+    private final UnifycodeExtension extension;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param extension unifycode extension.
+     */
+    public BaselineTool(final ToolProject project, final UnifycodeExtension extension) {
+        this.project = project;
+        this.extension = extension;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public BaselineTool(final Project project) {
+        this(new ToolProject(project), project.getExtensions().getByType(UnifycodeExtension.class));
+    }
+
+    /**
+     * Registers the baseline tasks and lets the baseline check decide on failures when a baseline is configured.
+     */
+    public void configure() {
+        this.project.registerTask(BaselineTool.RECORD, BaselineTask.class, task -> {
+            task.setGroup("verification");
+            task.setDescription("Records current Checkstyle and PMD violations in the baseline file.");
+            task.setEnabled(this.extension.getBaseline().isPresent());
+            task.dependsOn(this.project.tasks(Checkstyle.class), this.project.tasks(Pmd.class));
+            task.getCheckstyleReports().from(
+                this.project.taskFiles(Checkstyle.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getPmdReports().from(
+                this.project.taskFiles(Pmd.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getRootDirectory().set(this.project.rootDirectory());
+            task.getNarrowedBy().set(
+                this.extension.getRatchetFrom().map(ref -> "ratchetFrom '" + ref + "'").orElse(
+                    this.project.gradleProperty(StagedTool.PROPERTY)
+                        .map(file -> "the " + StagedTool.PROPERTY + " property")
+                )
+            );
+            task.getBaseline().set(this.extension.getBaseline());
+        });
+        this.project.registerTask(BaselineTool.CHECK, BaselineCheckTask.class, task -> {
+            task.setGroup("verification");
+            task.setDescription("Fails on Checkstyle and PMD violations not recorded in the baseline file.");
+            task.setEnabled(this.extension.getBaseline().isPresent());
+            task.dependsOn(this.project.tasks(Checkstyle.class), this.project.tasks(Pmd.class));
+            task.getCheckstyleReports().from(
+                this.project.taskFiles(Checkstyle.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getPmdReports().from(
+                this.project.taskFiles(Pmd.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getSources().from(this.project.taskSources(Checkstyle.class), this.project.taskSources(Pmd.class));
+            task.getBaseline().set(this.extension.getBaseline());
+            task.getLenientReports().from(
+                this.project.taskFiles(
+                    Checkstyle.class,
+                    tool -> this.lenient(
+                        this.extension.getCheckstyle(), "checkstyle", tool.getName(), tool.getReports().getXml()
+                    )
+                ),
+                this.project.taskFiles(
+                    Pmd.class,
+                    tool -> this.lenient(this.extension.getPmd(), "pmd", tool.getName(), tool.getReports().getXml())
+                )
+            );
+            task.getRootDirectory().set(this.project.rootDirectory());
+            task.getReport().set(this.project.buildFile("reports/unifycode/baseline.txt"));
+        });
+        this.project.configureTasks(
+            Checkstyle.class,
+            task -> this.report(task, this.extension.getCheckstyle(), "checkstyle")
+        );
+        this.project.configureTasks(Pmd.class, task -> this.report(task, this.extension.getPmd(), "pmd"));
+    }
+
+    /**
+     * XML report of a task whose source set policy is not strict.
+     *
+     * @param policy tool policy.
+     * @param verb task name prefix of the tool.
+     * @param name task name.
+     * @param report task XML report.
+     * @return report file, or {@code null} for strict source sets and reports that are not required.
+     */
+    private File lenient(
+        final QualityToolPolicy policy,
+        final String verb,
+        final String name,
+        final SingleFileReport report
+    ) {
+        File file = null;
+        if (policy.ignoresFailures(this.project.sourceSet(name, verb)).get()) {
+            file = SarifTool.xml(report);
+        }
+        return file;
+    }
+
+    /**
+     * Lets a tool task report without failing while a baseline is configured, and leaves failures to the source set
+     * policy otherwise. It replaces the convention the tools set, so the baseline check keeps the last word.
+     *
+     * @param task tool task.
+     * @param policy tool policy.
+     * @param verb task name prefix of the tool.
+     */
+    private void report(final AbstractCodeQualityTask task, final QualityToolPolicy policy, final String verb) {
+        this.project.ignoreFailures(
+            task,
+            this.extension.getBaseline().map(file -> true)
+                .orElse(policy.ignoresFailures(this.project.sourceSet(task.getName(), verb)))
+        );
+    }
+}
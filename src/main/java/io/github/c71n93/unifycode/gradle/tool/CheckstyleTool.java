@@ -1,10 +1,20 @@
 package io.github.c71n93.unifycode.gradle.tool;
 
-import io.github.c71n93.unifycode.gradle.extension.QualityToolPolicy;
+import io.github.c71n93.unifycode.gradle.extension.CheckstylePolicy;
 import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
 import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.gradle.api.Action;
+import org.gradle.api.GradleException;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.plugins.quality.Checkstyle;
 import org.gradle.api.plugins.quality.CheckstyleExtension;
+import org.gradle.api.provider.Provider;
 
 /**
  * Checkstyle configuration tool.
@@ -13,7 +23,12 @@ public final class CheckstyleTool {
     /**
      * Checkstyle configuration resource path.
      */
-    private static final String RESOURCE = "io/github/c71n93/unifycode/checkstyle/checkstyle.xml";
+    /* default */ static final String RESOURCE = "io/github/c71n93/unifycode/checkstyle/checkstyle.xml";
+
+    /**
+     * Checkstyle version the bundled configuration is tested with.
+     */
+    private static final String VERSION = "10.24.0";
 
     /**
      * Checkstyle suppression configuration resource path.
@@ -21,33 +36,38 @@ public final class CheckstyleTool {
     private static final String SUPPRESSIONS = "io/github/c71n93/unifycode/checkstyle/checkstyle-suppressions.xml";
 
     /**
-     * Project facade.
+     * Checkstyle configuration property holding the result cache file name.
      */
-    private final ToolProject project;
+    private static final String CACHE = "unifycode.checkstyle.cache";
+
+    /**
+     * Name of the task action that empties the result cache while caching is disabled.
+     */
+    /* default */ static final String RESET = "Reset Checkstyle result cache";
 
     /**
-     * Resource copier.
+     * Length of each checksum prefix in result cache file names.
      */
-    private final UnifycodeResources resources;
+    private static final int CHECKSUM_PREFIX = 12;
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
 
     /**
      * Checkstyle policy.
      */
-    private final QualityToolPolicy policy;
+    private final CheckstylePolicy policy;
 
     /**
-     * New tool configured with an explicit resource copier.
+     * New tool configured with an explicit project facade.
      *
      * @param project project facade.
-     * @param resources resource copier.
      * @param policy checkstyle policy.
      */
-    public CheckstyleTool(
-                          final ToolProject project,
-                          final UnifycodeResources resources,
-                          final QualityToolPolicy policy) {
+    public CheckstyleTool(final ToolProject project, final CheckstylePolicy policy) {
         this.project = project;
-        this.resources = resources;
         this.policy = policy;
     }
 
@@ -59,7 +79,6 @@ public final class CheckstyleTool {
     public CheckstyleTool(final Project project) {
         this(
             new ToolProject(project),
-            new UnifycodeResources(project),
             project.getExtensions().getByType(UnifycodeExtension.class).getCheckstyle()
         );
     }
@@ -69,13 +88,88 @@ public final class CheckstyleTool {
      */
     public void configure() {
         this.project.applyPlugin("checkstyle");
-        final File config = this.resources.copy(CheckstyleTool.RESOURCE);
-        final File suppressions = this.resources.copy(CheckstyleTool.SUPPRESSIONS);
-        // @todo #2:30min Pin Checkstyle toolVersion to an up-to-date release instead of relying on Gradle defaults.
+        final Provider<RegularFile> config = this.project.config(CheckstyleTool.RESOURCE);
+        this.project.config(CheckstyleTool.SUPPRESSIONS);
         this.project.configureExtension(CheckstyleExtension.class, extension -> {
-            extension.setConfigFile(config);
-            extension.setIgnoreFailures(this.policy.ignoresFailures());
-            extension.getConfigProperties().put("unifycode.checkstyle.suppressions", suppressions.getAbsolutePath());
+            extension.setToolVersion(CheckstyleTool.VERSION);
+            extension.setConfig(this.project.text(config));
+            extension.getConfigDirectory().set(this.project.configDirectory());
+        });
+        final String key = CheckstyleTool.configKey();
+        this.policy.getToolVersion().convention(this.project.toolVersion(CheckstyleExtension.class));
+        final FileCollection classpath = this.project.toolConfiguration(
+            "unifycodeCheckstyle",
+            "checkstyle",
+            List.of("com.puppycrawl.tools:checkstyle"),
+            this.policy.getToolVersion()
+        );
+        final File directory = this.project.projectDirectory().getAsFile();
+        this.project.configureTasks(Checkstyle.class, task -> {
+            task.setCheckstyleClasspath(classpath);
+            final String set = this.project.sourceSet(task.getName(), "checkstyle");
+            this.project.ignoreFailures(task, this.policy.ignoresFailures(set));
+            task.exclude(new MatchingFiles(new ExcludedPaths(directory, this.policy.excludes(set))));
+            task.getMaxHeapSize().convention(this.policy.getMaxHeapSize());
+            this.configureCache(task, key);
         });
     }
+
+    /**
+     * Names the result cache of the task. The bundled configurations declare the cache beside the extracted
+     * configuration directory, which Gradle passes to Checkstyle as {@code config_loc}, so only the file name becomes
+     * a task input and the build cache key does not depend on the project location. The name carries the bundled
+     * configuration checksums, so a new configuration never reads results cached for an older one. While caching is
+     * disabled, the cache is deleted before each run, so Checkstyle never skips a file.
+     *
+     * @param task checkstyle task.
+     * @param key bundled configuration key.
+     */
+    private void configureCache(final Checkstyle task, final String key) {
+        final String name = task.getName() + "-" + key + ".cache";
+        final Map<String, Object> properties = new HashMap<>(task.getConfigProperties());
+        properties.put(CheckstyleTool.CACHE, name);
+        task.setConfigProperties(properties);
+        final Provider<RegularFile> cache = this.project.buildFile("unifycode/checkstyle/" + name);
+        task.getLocalState().register(cache);
+        task.doFirst(CheckstyleTool.RESET, new ResetCache(cache, this.policy.getCache()));
+    }
+
+    private static String configKey() {
+        return UnifycodeResources.checksum(CheckstyleTool.RESOURCE).substring(0, CheckstyleTool.CHECKSUM_PREFIX)
+            + UnifycodeResources.checksum(CheckstyleTool.SUPPRESSIONS).substring(0, CheckstyleTool.CHECKSUM_PREFIX);
+    }
+
+    /**
+     * Deletes the result cache before the audit while caching is disabled.
+     */
+    private static final class ResetCache implements Action<Task> {
+        /**
+         * Result cache file.
+         */
+        private final Provider<RegularFile> cache;
+
+        /**
+         * Whether caching is enabled.
+         */
+        private final Provider<Boolean> enabled;
+
+        /**
+         * New action.
+         *
+         * @param cache result cache file.
+         * @param enabled whether caching is enabled.
+         */
+        ResetCache(final Provider<RegularFile> cache, final Provider<Boolean> enabled) {
+            this.cache = cache;
+            this.enabled = enabled;
+        }
+
+        @Override
+        public void execute(final Task task) {
+            final File file = this.cache.get().getAsFile();
+            if (!this.enabled.get() && file.exists() && !file.delete()) {
+                throw new GradleException("Could not delete Checkstyle result cache: " + file);
+            }
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Finds the duplicate blocks of every project of a build from indexed windows. Windows are grouped by hash, so only
+ * windows with equal hashes are compared, windows whose lines differ despite equal hashes are dropped, and matching
+ * windows at a constant offset are merged into one block. A block duplicated across projects is reported for both.
+ */
+final class DuplicateFinder {
+    /**
+     * Order of windows inside the build.
+     */
+    private static final Comparator<DuplicateIndex.Entry> ORDER = Comparator
+        .comparing(DuplicateIndex.Entry::module)
+        .thenComparing(DuplicateIndex.Entry::path)
+        .thenComparingInt(DuplicateIndex.Entry::position);
+
+    /**
+     * Duplicate blocks of every project.
+     *
+     * @param entries indexed windows of the build.
+     * @return duplicate blocks by the project of their first side, ordered by their first side.
+     */
+    /* default */ Map<String, List<Duplicate>> find(final List<DuplicateIndex.Entry> entries) {
+        final Map<Long, List<DuplicateIndex.Entry>> buckets = new HashMap<>();
+        for (final DuplicateIndex.Entry entry : entries) {
+            buckets.computeIfAbsent(entry.hash(), hash -> new ArrayList<>(2)).add(entry);
+        }
+        final Map<String, List<DuplicateIndex.Entry[]>> runs = new TreeMap<>();
+        for (final List<DuplicateIndex.Entry> bucket : buckets.values()) {
+            for (int first = 0; first < bucket.size(); ++first) {
+                for (int second = first + 1; second < bucket.size(); ++second) {
+                    DuplicateFinder.match(runs, bucket.get(first), bucket.get(second));
+                }
+            }
+        }
+        final List<Duplicate> duplicates = new ArrayList<>(runs.size());
+        for (final List<DuplicateIndex.Entry[]> run : runs.values()) {
+            run.sort(Comparator.comparingInt(pair -> pair[0].position()));
+            DuplicateFinder.merge(run, duplicates);
+        }
+        duplicates.sort(
+            Comparator.comparing((Duplicate duplicate) -> duplicate.first().module())
+                .thenComparing(duplicate -> duplicate.first().path())
+                .thenComparingInt(duplicate -> duplicate.first().start())
+        );
+        final Map<String, List<Duplicate>> modules = new TreeMap<>();
+        for (final Duplicate duplicate : duplicates) {
+            modules.computeIfAbsent(duplicate.first().module(), module -> new ArrayList<>(1)).add(duplicate);
+        }
+        return modules;
+    }
+
+    private static void match(
+        final Map<String, List<DuplicateIndex.Entry[]>> runs,
+        final DuplicateIndex.Entry left,
+        final DuplicateIndex.Entry right
+    ) {
+        if (left.lines().equals(right.lines()) && !DuplicateFinder.overlap(left, right)) {
+            if (!left.module().equals(right.module()) || DuplicateFinder.ORDER.compare(left, right) < 0) {
+                DuplicateFinder.run(runs, left, right);
+            }
+            if (!left.module().equals(right.module()) || DuplicateFinder.ORDER.compare(left, right) > 0) {
+                DuplicateFinder.run(runs, right, left);
+            }
+        }
+    }
+
+    private static void run(
+        final Map<String, List<DuplicateIndex.Entry[]>> runs,
+        final DuplicateIndex.Entry first,
+        final DuplicateIndex.Entry second
+    ) {
+        runs.computeIfAbsent(
+            String.join(
+                "\n",
+                first.module(),
+                first.path(),
+                second.module(),
+                second.path(),
+                Integer.toString(second.position() - first.position())
+            ),
+            key -> new ArrayList<>(1)
+        ).add(new DuplicateIndex.Entry[] {first, second});
+    }
+
+    private static boolean overlap(final DuplicateIndex.Entry first, final DuplicateIndex.Entry second) {
+        return first.module().equals(second.module())
+            && first.path().equals(second.path())
+            && first.start() <= second.end()
+            && second.start() <= first.end();
+    }
+
+    private static void merge(final List<DuplicateIndex.Entry[]> run, final List<Duplicate> duplicates) {
+        DuplicateIndex.Entry[] start = run.get(0);
+        DuplicateIndex.Entry[] last = start;
+        for (final DuplicateIndex.Entry[] pair : run.subList(1, run.size())) {
+            if (pair[0].position() != last[0].position() + 1) {
+                duplicates.add(DuplicateFinder.duplicate(start, last));
+                start = pair;
+            }
+            last = pair;
+        }
+        duplicates.add(DuplicateFinder.duplicate(start, last));
+    }
+
+    private static Duplicate duplicate(final DuplicateIndex.Entry[] start, final DuplicateIndex.Entry[] last) {
+        return new Duplicate(
+            new Block(start[0].module(), start[0].path(), start[0].start(), last[0].end()),
+            new Block(start[1].module(), start[1].path(), start[1].start(), last[1].end())
+        );
+    }
+
+    /**
+     * Source lines of one side of a duplicate.
+     *
+     * @param module project path.
+     * @param path source path.
+     * @param start first line number.
+     * @param end last line number.
+     */
+    /* default */ record Block(String module, String path, int start, int end) {
+        @Override
+        public String toString() {
+            return this.module + ' ' + this.path + ':' + this.start + '-' + this.end;
+        }
+    }
+
+    /**
+     * Duplicate block.
+     *
+     * @param first side in the project.
+     * @param second duplicating side.
+     */
+    /* default */ record Duplicate(Block first, Block second) {
+        @Override
+        public String toString() {
+            return this.first + " duplicates " + this.second;
+        }
+    }
+}
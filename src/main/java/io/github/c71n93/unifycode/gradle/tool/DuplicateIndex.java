@@ -0,0 +1,123 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persisted windows of one source file. The first line holds the project path, the source path, the window size and
+ * the number of normalized lines. The normalized lines follow, so matching hashes can be checked against the actual
+ * lines, and each remaining line holds the hash, position, first and last line of one window.
+ */
+final class DuplicateIndex {
+    /**
+     * Index file.
+     */
+    private final File file;
+
+    /**
+     * New index.
+     *
+     * @param file index file.
+     */
+    /* default */ DuplicateIndex(final File file) {
+        this.file = file;
+    }
+
+    /**
+     * Writes the windows of a source file.
+     *
+     * @param module project path.
+     * @param path source path.
+     * @param size number of normalized lines in a window.
+     * @param normalized normalized source lines.
+     * @param windows source windows.
+     */
+    /* default */ void write(
+        final String module,
+        final String path,
+        final int size,
+        final List<DuplicateWindows.Line> normalized,
+        final List<DuplicateWindows.Window> windows
+    ) {
+        final List<String> lines = new ArrayList<>(normalized.size() + windows.size() + 1);
+        lines.add(String.join("\t", module, path, Integer.toString(size), Integer.toString(normalized.size())));
+        for (final DuplicateWindows.Line line : normalized) {
+            lines.add(line.text());
+        }
+        for (final DuplicateWindows.Window window : windows) {
+            lines.add(
+                Long.toHexString(window.hash()) + ' ' + window.position() + ' ' + window.start() + ' ' + window.end()
+            );
+        }
+        try {
+            Files.createDirectories(this.file.toPath().getParent());
+            Files.write(this.file.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write duplicate index: " + this.file, exception);
+        }
+    }
+
+    /**
+     * Reads the windows of the indexed source file.
+     *
+     * @return indexed windows.
+     */
+    /* default */ List<Entry> read() {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(this.file.toPath(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read duplicate index: " + this.file, exception);
+        }
+        final List<Entry> entries = new ArrayList<>(Math.max(0, lines.size() - 1));
+        if (!lines.isEmpty()) {
+            final String[] source = lines.get(0).split("\t", 4);
+            final int size = Integer.parseInt(source[2]);
+            final int count = Integer.parseInt(source[3]);
+            final List<String> normalized = lines.subList(1, count + 1);
+            for (final String line : lines.subList(count + 1, lines.size())) {
+                final String[] fields = line.split(" ");
+                final int position = Integer.parseInt(fields[1]);
+                entries.add(
+                    new Entry(
+                        source[0],
+                        source[1],
+                        Long.parseUnsignedLong(fields[0], 16),
+                        position,
+                        Integer.parseInt(fields[2]),
+                        Integer.parseInt(fields[3]),
+                        normalized.subList(position, position + size)
+                    )
+                );
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Indexed window.
+     *
+     * @param module project path.
+     * @param path source path.
+     * @param hash rolling hash of the window.
+     * @param position index of the first normalized line.
+     * @param start first source line number.
+     * @param end last source line number.
+     * @param lines normalized lines of the window.
+     */
+    /* default */ record Entry(
+        String module,
+        String path,
+        long hash,
+        int position,
+        int start,
+        int end,
+        List<String> lines
+    ) {
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.file.FileType;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+
+/**
+ * Indexes window hashes of Java sources for duplicate code detection. Only added and modified sources are hashed again,
+ * the index of every other source is kept from the previous run.
+ */
+@CacheableTask
+public abstract class DuplicateIndexTask extends DefaultTask {
+    /**
+     * Java sources to index.
+     *
+     * @return source files.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @Incremental
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSource();
+
+    /**
+     * Path of the project the sources belong to.
+     *
+     * @return project path.
+     */
+    @Input
+    public abstract Property<String> getModule();
+
+    /**
+     * Minimum number of normalized lines in a duplicate.
+     *
+     * @return minimum duplicate size.
+     */
+    @Input
+    public abstract Property<Integer> getMinLines();
+
+    /**
+     * Directory holding one index file per source.
+     *
+     * @return output directory.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * Gradle file system operations.
+     *
+     * @return file system operations.
+     */
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    /**
+     * Updates the index files of changed sources.
+     *
+     * @param changes source changes since the previous run.
+     */
+    @TaskAction
+    public void index(final InputChanges changes) {
+        if (!changes.isIncremental()) {
+            this.getFileSystemOperations().delete(spec -> spec.delete(this.getOutputDirectory().getAsFileTree()));
+        }
+        final DuplicateWindows windows = new DuplicateWindows(this.getMinLines().get());
+        final File output = this.getOutputDirectory().get().getAsFile();
+        for (final FileChange change : changes.getFileChanges(this.getSource())) {
+            final File index = new File(output, change.getNormalizedPath() + ".idx");
+            if (change.getFileType() == FileType.FILE && change.getChangeType() == ChangeType.REMOVED) {
+                this.getFileSystemOperations().delete(spec -> spec.delete(index));
+            } else if (change.getFileType() == FileType.FILE) {
+                final List<DuplicateWindows.Line> lines = windows.lines(DuplicateIndexTask.lines(change.getFile()));
+                new DuplicateIndex(index).write(
+                    this.getModule().get(),
+                    change.getNormalizedPath(),
+                    this.getMinLines().get(),
+                    lines,
+                    windows.of(lines)
+                );
+            }
+        }
+    }
+
+    private static List<String> lines(final File source) {
+        try {
+            return Files.readAllLines(source.toPath(), StandardCharsets.ISO_8859_1);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read source: " + source, exception);
+        }
+    }
+}
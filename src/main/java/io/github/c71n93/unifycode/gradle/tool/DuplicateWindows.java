@@ -0,0 +1,145 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Rolling hashes of fixed-size windows of normalized source lines. Blank lines, comments, imports and the package
+ * declaration are left out, and whitespace runs are collapsed, so formatting does not hide duplicates.
+ */
+final class DuplicateWindows {
+    /**
+     * Rolling hash multiplier.
+     */
+    private static final long BASE = 1_000_003L;
+
+    /**
+     * FNV-1a 64-bit offset basis.
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a 64-bit prime.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Whitespace run.
+     */
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Number of normalized lines in a window.
+     */
+    private final int size;
+
+    /**
+     * New window hasher.
+     *
+     * @param size number of normalized lines in a window.
+     */
+    /* default */ DuplicateWindows(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Normalized lines of a source, leaving out the lines that do not count towards duplicates.
+     *
+     * @param source source lines.
+     * @return normalized lines in source order.
+     */
+    /* default */ List<Line> lines(final List<String> source) {
+        final List<Line> lines = new ArrayList<>(source.size());
+        for (int index = 0; index < source.size(); ++index) {
+            final String line = DuplicateWindows.normalize(source.get(index));
+            if (!line.isEmpty()) {
+                lines.add(new Line(index + 1, line));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Windows of the given normalized lines, each hashed from the previous one in constant time.
+     *
+     * @param lines normalized lines.
+     * @return windows in source order.
+     */
+    /* default */ List<Window> of(final List<Line> lines) {
+        final List<Long> hashes = new ArrayList<>(lines.size());
+        for (final Line line : lines) {
+            hashes.add(DuplicateWindows.hash(line.text()));
+        }
+        final List<Window> windows = new ArrayList<>(Math.max(0, hashes.size() - this.size + 1));
+        if (hashes.size() >= this.size) {
+            long power = 1L;
+            long rolling = 0L;
+            for (int index = 0; index < this.size; ++index) {
+                rolling = rolling * DuplicateWindows.BASE + hashes.get(index);
+                if (index > 0) {
+                    power = power * DuplicateWindows.BASE;
+                }
+            }
+            windows.add(new Window(rolling, 0, lines.get(0).number(), lines.get(this.size - 1).number()));
+            for (int position = 1; position + this.size <= hashes.size(); ++position) {
+                rolling = (rolling - hashes.get(position - 1) * power) * DuplicateWindows.BASE
+                    + hashes.get(position + this.size - 1);
+                windows.add(
+                    new Window(
+                        rolling,
+                        position,
+                        lines.get(position).number(),
+                        lines.get(position + this.size - 1).number()
+                    )
+                );
+            }
+        }
+        return windows;
+    }
+
+    private static String normalize(final String line) {
+        final String trimmed = line.strip();
+        String normalized = "";
+        if (!trimmed.isEmpty() && !DuplicateWindows.ignored(trimmed)) {
+            normalized = DuplicateWindows.WHITESPACE.matcher(trimmed).replaceAll(" ");
+        }
+        return normalized;
+    }
+
+    private static boolean ignored(final String line) {
+        return line.startsWith("//")
+            || line.startsWith("/*")
+            || line.startsWith("*")
+            || line.startsWith("import ")
+            || line.startsWith("package ");
+    }
+
+    private static long hash(final String line) {
+        long hash = DuplicateWindows.FNV_OFFSET;
+        for (int index = 0; index < line.length(); ++index) {
+            hash = (hash ^ line.charAt(index)) * DuplicateWindows.FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Normalized source line.
+     *
+     * @param number source line number.
+     * @param text normalized text.
+     */
+    /* default */ record Line(int number, String text) {
+    }
+
+    /**
+     * Window of normalized lines.
+     *
+     * @param hash rolling hash of the window.
+     * @param position index of the first normalized line.
+     * @param start first source line number.
+     * @param end last source line number.
+     */
+    /* default */ record Window(long hash, int position, int start, int end) {
+    }
+}
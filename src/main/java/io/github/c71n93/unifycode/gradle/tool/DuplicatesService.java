@@ -0,0 +1,46 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Build-wide duplicate code detection. Every project reads the duplicate indexes of the whole build, so the service
+ * compares a set of indexes once and hands each project the duplicates attributed to it, instead of every project
+ * repeating the comparison of the whole build.
+ */
+public abstract class DuplicatesService implements BuildService<BuildServiceParameters.None> {
+    /**
+     * Duplicates by project, for each set of compared index files.
+     */
+    private final Map<Set<File>, Map<String, List<DuplicateFinder.Duplicate>>> found = new HashMap<>();
+
+    /**
+     * Duplicates of a project, comparing the index files the first time they are requested.
+     *
+     * @param indexes index files of the build.
+     * @param module project path.
+     * @return duplicate blocks with their first side in the project.
+     */
+    /* default */ synchronized List<DuplicateFinder.Duplicate> duplicates(
+        final Set<File> indexes,
+        final String module
+    ) {
+        return this.found.computeIfAbsent(indexes, DuplicatesService::find)
+            .getOrDefault(module, Collections.emptyList());
+    }
+
+    private static Map<String, List<DuplicateFinder.Duplicate>> find(final Set<File> indexes) {
+        final List<DuplicateIndex.Entry> entries = new ArrayList<>();
+        for (final File index : indexes) {
+            entries.addAll(new DuplicateIndex(index).read());
+        }
+        return new DuplicateFinder().find(entries);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Reports duplicate code of one project against the duplicate indexes of every project in the build. The comparison
+ * itself runs once per build in the {@link DuplicatesService}.
+ */
+@CacheableTask
+public abstract class DuplicatesTask extends DefaultTask {
+    /**
+     * Duplicate index directories of the build.
+     *
+     * @return index directories.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getIndexes();
+
+    /**
+     * Path of the project duplicates are reported for.
+     *
+     * @return project path.
+     */
+    @Input
+    public abstract Property<String> getModule();
+
+    /**
+     * Whether duplicates are reported without failing the build.
+     *
+     * @return non-failing duplicates flag.
+     */
+    @Input
+    public abstract Property<Boolean> getIgnoreFailures();
+
+    /**
+     * Build-wide duplicate detection service.
+     *
+     * @return duplicates service.
+     */
+    @Internal
+    public abstract Property<DuplicatesService> getService();
+
+    /**
+     * Duplicate code report.
+     *
+     * @return report file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    /**
+     * Finds duplicates, writes the report, and fails on duplicates unless failures are ignored.
+     */
+    @TaskAction
+    public void detect() {
+        final List<DuplicateFinder.Duplicate> duplicates = this.getService().get().duplicates(
+            this.getIndexes().getAsFileTree().matching(spec -> spec.include("**/*.idx")).getFiles(),
+            this.getModule().get()
+        );
+        final File report = this.getReport().get().getAsFile();
+        final List<String> lines = new ArrayList<>(duplicates.size());
+        for (final DuplicateFinder.Duplicate duplicate : duplicates) {
+            lines.add(duplicate.toString());
+        }
+        try {
+            Files.createDirectories(report.toPath().getParent());
+            Files.write(report.toPath(), lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write duplicate code report: " + report, exception);
+        }
+        if (!duplicates.isEmpty() && !this.getIgnoreFailures().get()) {
+            throw new GradleException(
+                String.format(
+                    "Found %d duplicate code blocks. See the report at: %s",
+                    duplicates.size(),
+                    report.toURI()
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.extension.DuplicatesPolicy;
+import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
+import org.gradle.api.Project;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Specs;
+import org.gradle.api.tasks.TaskProvider;
+
+/**
+ * Indexed duplicate code detection across the projects of a build.
+ */
+public final class DuplicatesTool {
+    /**
+     * Index task name.
+     */
+    private static final String INDEX = "unifycodeDuplicateIndex";
+
+    /**
+     * Detection task name.
+     */
+    private static final String DETECT = "unifycodeDuplicates";
+
+    /**
+     * Name of the configurations sharing duplicate indexes between projects.
+     */
+    private static final String SHARED = "unifycodeDuplicateIndex";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Duplicate code detection policy.
+     */
+    private final DuplicatesPolicy policy;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param policy tool policy.
+     */
+    public DuplicatesTool(final ToolProject project, final DuplicatesPolicy policy) {
+        this.project = project;
+        this.policy = policy;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public DuplicatesTool(final Project project) {
+        this(
+            new ToolProject(project),
+            project.getExtensions().getByType(UnifycodeExtension.class).getDuplicates()
+        );
+    }
+
+    /**
+     * Registers the index and detection tasks and shares the index with the other projects of the build. The indexes
+     * of the build are compared once by the build-wide duplicates service.
+     */
+    public void configure() {
+        final TaskProvider<DuplicateIndexTask> index = this.project.registerTask(
+            DuplicatesTool.INDEX,
+            DuplicateIndexTask.class,
+            task -> {
+                task.setDescription("Indexes main Java sources for duplicate code detection.");
+                task.setEnabled(this.policy.getEnabled().get());
+                task.getSource().from(
+                    this.project.mainJava().filter(
+                        Specs.negate(
+                            new ExcludedPaths(this.project.projectDirectory().getAsFile(), this.policy.getExcludes())
+                        )
+                    )
+                );
+                task.getModule().set(this.project.path());
+                task.getMinLines().set(this.policy.getMinLines());
+                task.getOutputDirectory().set(this.project.buildDirectory("unifycode/duplicates/index"));
+            }
+        );
+        final FileCollection others = this.project.shared(
+            DuplicatesTool.SHARED,
+            index.flatMap(DuplicateIndexTask::getOutputDirectory),
+            this.project.otherProjects()
+        );
+        final Provider<DuplicatesService> service = this.project.duplicatesService();
+        this.project.registerTask(DuplicatesTool.DETECT, DuplicatesTask.class, task -> {
+            task.setGroup("verification");
+            task.setDescription("Reports main Java code duplicated within the build.");
+            task.setEnabled(this.policy.getEnabled().get());
+            task.getIndexes().from(index.flatMap(DuplicateIndexTask::getOutputDirectory), others);
+            task.getModule().set(this.project.path());
+            task.getService().set(service);
+            task.usesService(service);
+            task.getIgnoreFailures().set(this.policy.getStrict().map(strict -> !strict));
+            task.getReport().set(this.project.buildFile("reports/unifycode/duplicates.txt"));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Accepts the files whose path relative to the project directory matches one of the excluded globs. The globs are
+ * compiled into path matchers on first use, so each file costs one match per glob.
+ */
+final class ExcludedPaths implements Spec<File> {
+    /**
+     * Project directory paths are relative to.
+     */
+    private final File directory;
+
+    /**
+     * Excluded path globs.
+     */
+    private final Provider<List<String>> globs;
+
+    /**
+     * Compiled globs, absent until first use.
+     */
+    private transient List<PathMatcher> matchers;
+
+    /**
+     * New spec.
+     *
+     * @param directory project directory paths are relative to.
+     * @param globs excluded path globs.
+     */
+    /* default */ ExcludedPaths(final File directory, final Provider<List<String>> globs) {
+        this.directory = directory;
+        this.globs = globs;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(final File file) {
+        final List<PathMatcher> compiled = this.compiled();
+        boolean excluded = false;
+        if (!compiled.isEmpty()) {
+            final Path relative = this.directory.toPath().relativize(file.toPath());
+            for (final PathMatcher matcher : compiled) {
+                excluded = excluded || matcher.matches(relative);
+            }
+        }
+        return excluded;
+    }
+
+    private List<PathMatcher> compiled() {
+        if (this.matchers == null) {
+            final List<PathMatcher> compiled = new ArrayList<>();
+            for (final String glob : this.globs.get()) {
+                compiled.add(FileSystems.getDefault().getPathMatcher("glob:" + glob));
+            }
+            this.matchers = compiled;
+        }
+        return this.matchers;
+    }
+}
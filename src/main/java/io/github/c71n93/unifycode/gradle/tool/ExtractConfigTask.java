@@ -0,0 +1,69 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.util.Map;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileSystemOperations;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Extracts bundled tool configuration resources into the build directory.
+ */
+@CacheableTask
+public abstract class ExtractConfigTask extends DefaultTask {
+    /**
+     * Classpath resource paths to extract.
+     *
+     * @return resource paths.
+     */
+    @Input
+    public abstract SetProperty<String> getResources();
+
+    /**
+     * Content checksums of the extracted resources, so outputs follow the bundled configuration.
+     *
+     * @return checksums by resource path.
+     */
+    @Input
+    public Map<String, String> getChecksums() {
+        final Map<String, String> checksums = new TreeMap<>();
+        for (final String resource : this.getResources().get()) {
+            checksums.put(resource, UnifycodeResources.checksum(resource));
+        }
+        return checksums;
+    }
+
+    /**
+     * Directory the resources are extracted to.
+     *
+     * @return output directory.
+     */
+    @OutputDirectory
+    public abstract DirectoryProperty getOutputDirectory();
+
+    /**
+     * Gradle file system operations.
+     *
+     * @return file system operations.
+     */
+    @Inject
+    protected abstract FileSystemOperations getFileSystemOperations();
+
+    /**
+     * Replaces the output directory content with the bundled resources.
+     */
+    @TaskAction
+    public void extract() {
+        this.getFileSystemOperations().delete(spec -> spec.delete(this.getOutputDirectory().getAsFileTree()));
+        final UnifycodeResources resources = new UnifycodeResources(this.getOutputDirectory().get().getAsFile());
+        for (final String resource : this.getResources().get()) {
+            resources.copy(resource);
+        }
+    }
+}
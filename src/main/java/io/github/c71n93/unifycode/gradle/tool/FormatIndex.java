@@ -0,0 +1,187 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Persisted content hashes of the sources the formatter left unchanged. Each line holds the hash and the path of one
+ * source relative to the project directory. The index file name carries the formatter configuration key, so a new
+ * configuration starts from an empty index. As a spec, it accepts the sources that are not known to be formatted.
+ * Source hashes are kept for the rest of the build along with the source length and modification time, so a source
+ * is read again only when one of them changes.
+ */
+final class FormatIndex implements Spec<File> {
+    /**
+     * Index file, resolved when the index is first read or written.
+     */
+    private final Provider<RegularFile> file;
+
+    /**
+     * Project directory indexed paths are relative to.
+     */
+    private final File root;
+
+    /**
+     * Indexed hashes by relative path, loaded on first use.
+     */
+    private transient Map<String, String> hashes;
+
+    /**
+     * Source hashes computed in this build, by source.
+     */
+    private transient Map<File, Stamp> stamps;
+
+    /**
+     * New index.
+     *
+     * @param file index file.
+     * @param root project directory.
+     */
+    /* default */ FormatIndex(final Provider<RegularFile> file, final File root) {
+        this.file = file;
+        this.root = root;
+    }
+
+    /**
+     * Index file.
+     *
+     * @return index file.
+     */
+    /* default */ Provider<RegularFile> file() {
+        return this.file;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(final File source) {
+        final String hash = this.entries().get(this.path(source));
+        return hash == null || !hash.equals(this.hash(source));
+    }
+
+    /**
+     * Records the result of a formatting run: sources without a formatted copy in the output directory are formatted,
+     * the others are not.
+     *
+     * @param sources sources the formatter checked.
+     * @param output formatter output directory, holding formatted copies of unformatted sources.
+     */
+    /* default */ void record(final Iterable<File> sources, final File output) {
+        final List<File> checked = new ArrayList<>();
+        sources.forEach(checked::add);
+        final Map<String, String> entries = this.entries();
+        for (final File source : checked) {
+            final String path = this.path(source);
+            if (new File(output, path).isFile()) {
+                entries.remove(path);
+            } else {
+                entries.put(path, this.hash(source));
+            }
+        }
+        final List<String> lines = new ArrayList<>(entries.size());
+        for (final Map.Entry<String, String> entry : new TreeMap<>(entries).entrySet()) {
+            lines.add(entry.getValue() + ' ' + entry.getKey());
+        }
+        final Path index = this.file.get().getAsFile().toPath();
+        try {
+            Files.createDirectories(index.getParent());
+            Files.write(index, lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write format index: " + index, exception);
+        }
+    }
+
+    private Map<String, String> entries() {
+        if (this.hashes == null) {
+            this.hashes = new HashMap<>();
+            final Path index = this.file.get().getAsFile().toPath();
+            if (Files.isRegularFile(index)) {
+                try {
+                    for (final String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                        final int space = line.indexOf(' ');
+                        this.hashes.put(line.substring(space + 1), line.substring(0, space));
+                    }
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException("Could not read format index: " + index, exception);
+                }
+            }
+        }
+        return this.hashes;
+    }
+
+    private String path(final File source) {
+        return this.root.toPath().relativize(source.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private String hash(final File source) {
+        if (this.stamps == null) {
+            this.stamps = new HashMap<>();
+        }
+        final long length = source.length();
+        final long modified = source.lastModified();
+        Stamp stamp = this.stamps.get(source);
+        if (stamp == null || stamp.length != length || stamp.modified != modified) {
+            stamp = new Stamp(length, modified, FormatIndex.digest(source));
+            this.stamps.put(source, stamp);
+        }
+        return stamp.hash;
+    }
+
+    private static String digest(final File source) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(source.toPath()))
+            );
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read source: " + source, exception);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", exception);
+        }
+    }
+
+    /**
+     * Content hash of a source, with the length and modification time it was computed for.
+     */
+    private static final class Stamp {
+        /**
+         * Source length in bytes.
+         */
+        private final long length;
+
+        /**
+         * Source modification time in milliseconds.
+         */
+        private final long modified;
+
+        /**
+         * Source content hash.
+         */
+        private final String hash;
+
+        /**
+         * New stamp.
+         *
+         * @param length source length in bytes.
+         * @param modified source modification time in milliseconds.
+         * @param hash source content hash.
+         */
+        Stamp(final long length, final long modified, final String hash) {
+            this.length = length;
+            this.modified = modified;
+            this.hash = hash;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Accepts generated files, while telling them apart is enabled: files larger than the size threshold, and files with a
+ * generated code marker before their first opening brace. Only the lines up to that brace are read, so the check costs
+ * the same for any file size. The result is kept per file while its length and modification time stay the same, so the
+ * Checkstyle, PMD and line check filters read each header once.
+ */
+final class GeneratedFiles implements Spec<File> {
+    /**
+     * Whether generated files are told apart at all.
+     */
+    private final Provider<Boolean> enabled;
+
+    /**
+     * Largest file size, in bytes, that is not generated.
+     */
+    private final Provider<Long> size;
+
+    /**
+     * Generated code markers.
+     */
+    private final Provider<List<String>> markers;
+
+    /**
+     * Results by file, created on first use so they are not part of the configuration cache.
+     */
+    private transient Map<File, Stamp> stamps;
+
+    /**
+     * New spec.
+     *
+     * @param enabled whether generated files are told apart; when not, no file is generated.
+     * @param size largest file size, in bytes, that is not generated.
+     * @param markers generated code markers.
+     */
+    /* default */ GeneratedFiles(
+        final Provider<Boolean> enabled,
+        final Provider<Long> size,
+        final Provider<List<String>> markers
+    ) {
+        this.enabled = enabled;
+        this.size = size;
+        this.markers = markers;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(final File file) {
+        return this.enabled.get() && this.generated(file);
+    }
+
+    private boolean generated(final File file) {
+        final long length = file.length();
+        final long modified = file.lastModified();
+        final Map<File, Stamp> known = this.stamps();
+        Stamp stamp = known.get(file);
+        if (stamp == null || stamp.length() != length || stamp.modified() != modified) {
+            stamp = new Stamp(length, modified, length > this.size.get() || this.marked(file));
+            known.put(file, stamp);
+        }
+        return stamp.generated();
+    }
+
+    private synchronized Map<File, Stamp> stamps() {
+        if (this.stamps == null) {
+            this.stamps = new ConcurrentHashMap<>();
+        }
+        return this.stamps;
+    }
+
+    private boolean marked(final File file) {
+        final List<String> all = this.markers.get();
+        boolean marked = false;
+        // Latin-1 decodes any byte, so ASCII markers are found whatever the file encoding is.
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.ISO_8859_1)) {
+            boolean header = true;
+            String line = reader.readLine();
+            while (header && line != null && !marked) {
+                marked = GeneratedFiles.contains(line, all);
+                header = line.indexOf('{') < 0;
+                line = reader.readLine();
+            }
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read source file: " + file, exception);
+        }
+        return marked;
+    }
+
+    private static boolean contains(final String line, final List<String> markers) {
+        boolean contains = false;
+        for (final String marker : markers) {
+            contains = contains || line.contains(marker);
+        }
+        return contains;
+    }
+
+    /**
+     * Result for a file at a given length and modification time.
+     *
+     * @param length file length in bytes.
+     * @param modified file modification time.
+     * @param generated whether the file is generated.
+     */
+    private record Stamp(long length, long modified, boolean generated) {
+    }
+}
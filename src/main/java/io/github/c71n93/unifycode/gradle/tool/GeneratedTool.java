@@ -0,0 +1,114 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.extension.GeneratedPolicy;
+import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
+import java.io.File;
+import java.util.Collections;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Keeps generated and oversized Java sources away from the syntax tree checks of Checkstyle and PMD, which need heaps
+ * proportional to the file size, and checks them with the line-based Checkstyle checks instead. The line checks are
+ * derived from the bundled Checkstyle configuration.
+ */
+public final class GeneratedTool {
+    /**
+     * Line check task name.
+     */
+    /* default */ static final String LINES = "unifycodeGeneratedLines";
+
+    /**
+     * Line check condition description.
+     */
+    private static final String LINE_CHECKS = "Line checks of generated sources are enabled";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Generated source policy.
+     */
+    private final GeneratedPolicy policy;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param policy generated source policy.
+     */
+    public GeneratedTool(final ToolProject project, final GeneratedPolicy policy) {
+        this.project = project;
+        this.policy = policy;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public GeneratedTool(final Project project) {
+        this(
+            new ToolProject(project),
+            project.getExtensions().getByType(UnifycodeExtension.class).getGenerated()
+        );
+    }
+
+    /**
+     * Excludes generated files from Checkstyle and PMD and registers the line check task for them.
+     */
+    public void configure() {
+        final Spec<File> generated = new GeneratedFiles(
+            this.policy.getEnabled(),
+            this.policy.getMaxFileSize(),
+            this.policy.getMarkers()
+        );
+        final Spec<FileTreeElement> excluded = new MatchingFiles(generated);
+        this.project.configureTasks(Checkstyle.class, task -> {
+            if (!GeneratedTool.LINES.equals(task.getName())) {
+                task.exclude(excluded);
+            }
+        });
+        this.project.configureTasks(Pmd.class, task -> task.exclude(excluded));
+        this.project.registerTask(GeneratedTool.LINES, Checkstyle.class, task -> {
+            task.setGroup("verification");
+            task.setDescription("Runs the line-based Checkstyle checks on generated Java sources.");
+            task.onlyIf(GeneratedTool.LINE_CHECKS, new Enabled(this.policy.getLineChecks()));
+            task.setConfig(this.project.text(new LineChecks(CheckstyleTool.RESOURCE).text()));
+            task.setClasspath(this.project.files(Collections.emptyList()));
+            task.setSource(this.project.allJava());
+            task.exclude(new MatchingFiles(generated, false));
+        });
+    }
+
+    /**
+     * Runs the line checks only while the policy enables them, read when the task is about to run.
+     */
+    private static final class Enabled implements Spec<Task> {
+        /**
+         * Whether the line checks are enabled.
+         */
+        private final Provider<Boolean> enabled;
+
+        /**
+         * New condition.
+         *
+         * @param enabled whether the line checks are enabled.
+         */
+        Enabled(final Provider<Boolean> enabled) {
+            this.enabled = enabled;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(final Task task) {
+            return this.enabled.get();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.ValueSource;
+import org.gradle.api.provider.ValueSourceParameters;
+import org.gradle.process.ExecOperations;
+import org.gradle.process.ExecResult;
+import org.gradle.process.ProcessExecutionException;
+
+/**
+ * Files of a directory that changed against a git ref, as absolute paths. Covers committed and uncommitted changes and
+ * untracked files, and leaves out deleted files. Fails with git's own message when the ref cannot be compared, such
+ * as outside a repository or for an unknown ref.
+ */
+public abstract class GitChangedFiles implements ValueSource<Set<String>, GitChangedFiles.Parameters> {
+    /**
+     * Gradle process execution service.
+     *
+     * @return exec operations.
+     */
+    @Inject
+    protected abstract ExecOperations getExecOperations();
+
+    @Override
+    public Set<String> obtain() {
+        final Set<String> changed = new TreeSet<>();
+        this.collect(
+            changed, "diff", "--name-only", "--relative", "--diff-filter=d", "-z", this.getParameters().getRef().get()
+        );
+        this.collect(changed, "ls-files", "--others", "--exclude-standard", "-z");
+        return changed;
+    }
+
+    private void collect(final Set<String> changed, final String... arguments) {
+        final File directory = this.getParameters().getDirectory().get().getAsFile();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        final ExecResult result;
+        try {
+            result = this.getExecOperations().exec(spec -> {
+                spec.setWorkingDir(directory);
+                spec.executable("git");
+                spec.args((Object[]) arguments);
+                spec.setStandardOutput(output);
+                spec.setErrorOutput(errors);
+                spec.setIgnoreExitValue(true);
+            });
+        } catch (final ProcessExecutionException exception) {
+            throw new GradleException(this.failure("git could not be started"), exception);
+        }
+        if (result.getExitValue() != 0) {
+            throw new GradleException(this.failure(errors.toString(StandardCharsets.UTF_8).trim()));
+        }
+        for (final String path : output.toString(StandardCharsets.UTF_8).split("\0")) {
+            if (!path.isEmpty()) {
+                changed.add(new File(directory, path).getAbsolutePath());
+            }
+        }
+    }
+
+    private String failure(final String reason) {
+        return String.format(
+            "Could not list files changed against ratchetFrom '%s' in %s: %s",
+            this.getParameters().getRef().get(),
+            this.getParameters().getDirectory().get().getAsFile(),
+            reason
+        );
+    }
+
+    /**
+     * Parameters of the changed files query.
+     */
+    public interface Parameters extends ValueSourceParameters {
+        /**
+         * Directory to query.
+         *
+         * @return directory property.
+         */
+        DirectoryProperty getDirectory();
+
+        /**
+         * Git ref to compare against.
+         *
+         * @return ref property.
+         */
+        Property<String> getRef();
+    }
+}
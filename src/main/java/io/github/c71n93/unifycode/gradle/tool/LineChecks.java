@@ -0,0 +1,133 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.gradle.api.GradleException;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Line-based Checkstyle configuration, derived from a bundled Checkstyle configuration so both share one definition of
+ * each check. It keeps the Checker properties, the file checks that read files as lines, and the suppression filter,
+ * and leaves out the syntax tree checks and the file checks that only make sense for hand-written sources.
+ */
+final class LineChecks {
+    /**
+     * Checker modules left out: the syntax tree checks, package Javadoc, translations, and the file length with its
+     * suppression filter.
+     */
+    private static final Set<String> SKIPPED = Set.of(
+        "TreeWalker",
+        "JavadocPackage",
+        "Translation",
+        "FileLength",
+        "SuppressWithPlainTextCommentFilter"
+    );
+
+    /**
+     * Source configuration resource path.
+     */
+    private final String resource;
+
+    /**
+     * New line-based configuration.
+     *
+     * @param resource source configuration resource path.
+     */
+    /* default */ LineChecks(final String resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * Line-based configuration text.
+     *
+     * @return configuration XML.
+     */
+    /* default */ String text() {
+        try {
+            final Document document = this.document();
+            final NodeList children = document.getDocumentElement().getChildNodes();
+            final List<Node> skipped = new ArrayList<>(LineChecks.SKIPPED.size());
+            for (int index = 0; index < children.getLength(); ++index) {
+                if (children.item(index) instanceof Element
+                    && LineChecks.SKIPPED.contains(((Element) children.item(index)).getAttribute("name"))) {
+                    skipped.add(children.item(index));
+                }
+            }
+            skipped.forEach(LineChecks::remove);
+            return LineChecks.write(document);
+        } catch (final IOException | ParserConfigurationException | SAXException | TransformerException exception) {
+            throw new GradleException("Could not derive line checks from " + this.resource, exception);
+        }
+    }
+
+    private Document document() throws IOException, ParserConfigurationException, SAXException {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        return factory.newDocumentBuilder().parse(
+            new InputSource(new StringReader(UnifycodeResources.text(this.resource)))
+        );
+    }
+
+    /**
+     * Removes a module with the comment that describes it and the indentation before them.
+     *
+     * @param module module element.
+     */
+    private static void remove(final Node module) {
+        final Node comment = LineChecks.trimBefore(module);
+        module.getParentNode().removeChild(module);
+        if (comment != null && comment.getNodeType() == Node.COMMENT_NODE) {
+            LineChecks.trimBefore(comment);
+            comment.getParentNode().removeChild(comment);
+        }
+    }
+
+    /**
+     * Removes the whitespace before a node.
+     *
+     * @param node node.
+     * @return node before the removed whitespace, possibly {@code null}.
+     */
+    private static Node trimBefore(final Node node) {
+        final Node previous = node.getPreviousSibling();
+        Node result = previous;
+        if (previous != null && previous.getNodeType() == Node.TEXT_NODE && previous.getTextContent().isBlank()) {
+            result = previous.getPreviousSibling();
+            previous.getParentNode().removeChild(previous);
+        }
+        return result;
+    }
+
+    private static String write(final Document document) throws TransformerException {
+        final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        final DocumentType doctype = document.getDoctype();
+        if (doctype != null) {
+            transformer.setOutputProperty(OutputKeys.DOCTYPE_PUBLIC, doctype.getPublicId());
+            transformer.setOutputProperty(OutputKeys.DOCTYPE_SYSTEM, doctype.getSystemId());
+        }
+        final StringWriter text = new StringWriter();
+        transformer.transform(new DOMSource(document), new StreamResult(text));
+        return text.toString();
+    }
+}
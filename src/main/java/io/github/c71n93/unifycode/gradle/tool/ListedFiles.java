@@ -0,0 +1,30 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.util.Set;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Accepts the files of a file list, or every file when no list is given.
+ */
+final class ListedFiles implements Spec<File> {
+    /**
+     * Listed files as absolute paths, absent when every file is accepted.
+     */
+    private final Provider<Set<String>> files;
+
+    /**
+     * New spec.
+     *
+     * @param files listed files as absolute paths.
+     */
+    /* default */ ListedFiles(final Provider<Set<String>> files) {
+        this.files = files;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(final File file) {
+        return !this.files.isPresent() || this.files.get().contains(file.getAbsolutePath());
+    }
+}
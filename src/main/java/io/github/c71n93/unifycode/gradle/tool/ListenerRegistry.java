@@ -0,0 +1,17 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import javax.inject.Inject;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+
+/**
+ * Holder of the Gradle build events listener registry, which is only available through injection.
+ */
+public abstract class ListenerRegistry {
+    /**
+     * Gradle build events listener registry.
+     *
+     * @return listener registry.
+     */
+    @Inject
+    public abstract BuildEventsListenerRegistry getRegistry();
+}
@@ -0,0 +1,46 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Accepts the files a file spec accepts, or the files it rejects, and never directories. Excluding them from a task
+ * leaves the directories and the other files.
+ */
+final class MatchingFiles implements Spec<FileTreeElement> {
+    /**
+     * File spec.
+     */
+    private final Spec<File> files;
+
+    /**
+     * Whether the files the spec accepts are accepted rather than the files it rejects.
+     */
+    private final boolean accepted;
+
+    /**
+     * New spec accepting the files the file spec accepts.
+     *
+     * @param files file spec.
+     */
+    /* default */ MatchingFiles(final Spec<File> files) {
+        this(files, true);
+    }
+
+    /**
+     * New spec.
+     *
+     * @param files file spec.
+     * @param accepted whether the files the spec accepts are accepted rather than the files it rejects.
+     */
+    /* default */ MatchingFiles(final Spec<File> files, final boolean accepted) {
+        this.files = files;
+        this.accepted = accepted;
+    }
+
+    @Override
+    public boolean isSatisfiedBy(final FileTreeElement element) {
+        return !element.isDirectory() && this.files.isSatisfiedBy(element.getFile()) == this.accepted;
+    }
+}
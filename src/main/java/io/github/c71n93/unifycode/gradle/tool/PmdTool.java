@@ -1,11 +1,18 @@
 package io.github.c71n93.unifycode.gradle.tool;
 
-import io.github.c71n93.unifycode.gradle.extension.QualityToolPolicy;
+import io.github.c71n93.unifycode.gradle.extension.PmdPolicy;
 import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
 import java.io.File;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.gradle.api.GradleException;
 import org.gradle.api.Project;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.plugins.quality.Pmd;
 import org.gradle.api.plugins.quality.PmdExtension;
+import org.gradle.api.provider.Provider;
 
 /**
  * PMD configuration tool.
@@ -17,33 +24,33 @@ public final class PmdTool {
     private static final String RESOURCE = "io/github/c71n93/unifycode/pmd/pmd.xml";
 
     /**
-     * Project facade.
+     * PMD version the bundled configuration is tested with.
      */
-    private final ToolProject project;
+    private static final String VERSION = "7.0.0";
+
+    /**
+     * Version prefix of the PMD releases the bundled custom rules are compiled against.
+     */
+    private static final String RULES = "7.";
 
     /**
-     * Resource copier.
+     * Project facade.
      */
-    private final UnifycodeResources resources;
+    private final ToolProject project;
 
     /**
      * PMD policy.
      */
-    private final QualityToolPolicy policy;
+    private final PmdPolicy policy;
 
     /**
-     * New tool configured with an explicit resource copier.
+     * New tool configured with an explicit project facade.
      *
      * @param project project facade.
-     * @param resources resource copier.
      * @param policy tool policy.
      */
-    public PmdTool(
-                   final ToolProject project,
-                   final UnifycodeResources resources,
-                   final QualityToolPolicy policy) {
+    public PmdTool(final ToolProject project, final PmdPolicy policy) {
         this.project = project;
-        this.resources = resources;
         this.policy = policy;
     }
 
@@ -55,7 +62,6 @@ public final class PmdTool {
     public PmdTool(final Project project) {
         this(
             new ToolProject(project),
-            new UnifycodeResources(project),
             project.getExtensions().getByType(UnifycodeExtension.class).getPmd()
         );
     }
@@ -65,15 +71,64 @@ public final class PmdTool {
      */
     public void configure() {
         this.project.applyPlugin("pmd");
-        final File config = this.resources.copy(PmdTool.RESOURCE);
+        final Provider<RegularFile> config = this.project.config(PmdTool.RESOURCE);
         this.project.configureExtension(PmdExtension.class, extension -> {
-            // @todo #2:40min Make all tool versions configurable from one place. For example from UnifycodeExtension
-            // class.
-            extension.setToolVersion("7.0.0");
+            extension.setToolVersion(PmdTool.VERSION);
             extension.setConsoleOutput(true);
-            extension.setIgnoreFailures(this.policy.ignoresFailures());
             extension.setRuleSets(Collections.emptyList());
             extension.setRuleSetFiles(this.project.files(config));
+            extension.getIncrementalAnalysis().set(this.policy.getIncremental());
+            extension.getThreads().set(this.policy.getThreads());
+        });
+        this.policy.getToolVersion().convention(this.project.toolVersion(PmdExtension.class));
+        final FileCollection classpath = this.project.toolConfiguration(
+            "unifycodePmd",
+            "pmd",
+            List.of("net.sourceforge.pmd:pmd-java", "net.sourceforge.pmd:pmd-ant"),
+            this.policy.getToolVersion().map(PmdTool::supported)
+        ).plus(this.project.pluginClasses());
+        final File directory = this.project.projectDirectory().getAsFile();
+        this.project.configureTasks(Pmd.class, task -> {
+            task.setPmdClasspath(classpath);
+            task.setClasspath(this.auxClasspath(task.getName()));
+            final String set = this.project.sourceSet(task.getName(), "pmd");
+            this.project.ignoreFailures(task, this.policy.ignoresFailures(set));
+            task.exclude(new MatchingFiles(new ExcludedPaths(directory, this.policy.excludes(set))));
+            task.getMaxHeapSize().convention(this.policy.getMaxHeapSize());
         });
     }
+
+    /**
+     * Checks that the bundled custom rules can run on the given PMD version.
+     *
+     * @param version configured PMD version.
+     * @return the same version.
+     */
+    private static String supported(final String version) {
+        if (!version.startsWith(PmdTool.RULES)) {
+            throw new GradleException(
+                String.format(
+                    "PMD %s is not supported: the bundled Unifycode rules are built against PMD 7. "
+                        + "Set unifycode.pmd.toolVersion or pmd.toolVersion to a 7.x version.",
+                    version
+                )
+            );
+        }
+        return version;
+    }
+
+    private FileCollection auxClasspath(final String task) {
+        final FileCollection types = this.project.typeClasspath(task, "pmd");
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final Object files;
+                if (this.policy.getTypeResolution().get()) {
+                    files = types;
+                } else {
+                    files = Collections.emptyList();
+                }
+                return files;
+            }
+        );
+    }
 }
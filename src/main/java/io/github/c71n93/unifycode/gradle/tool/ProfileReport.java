@@ -0,0 +1,111 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Profile report of quality tool tasks, written as JSON and HTML.
+ */
+final class ProfileReport {
+    /**
+     * Report directory.
+     */
+    private final File directory;
+
+    /**
+     * New report.
+     *
+     * @param directory report directory.
+     */
+    /* default */ ProfileReport(final File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes {@code profile.json} and {@code profile.html}, slowest task first.
+     *
+     * @param tasks profiled tasks.
+     * @throws IOException on report write failure.
+     */
+    /* default */ void write(final List<ProfileService.ProfiledTask> tasks) throws IOException {
+        tasks.sort(Comparator.comparingLong(ProfileService.ProfiledTask::millis).reversed());
+        Files.createDirectories(this.directory.toPath());
+        Files.writeString(
+            this.directory.toPath().resolve("profile.json"),
+            ProfileReport.json(tasks),
+            StandardCharsets.UTF_8
+        );
+        Files.writeString(
+            this.directory.toPath().resolve("profile.html"),
+            ProfileReport.html(tasks),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    private static String json(final List<ProfileService.ProfiledTask> tasks) {
+        final StringBuilder json = new StringBuilder("{\n  \"tasks\": [");
+        for (int index = 0; index < tasks.size(); ++index) {
+            final ProfileService.ProfiledTask task = tasks.get(index);
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append(
+                String.format(
+                    Locale.ROOT,
+                    "\n    {\"path\": \"%s\", \"tool\": \"%s\", \"outcome\": \"%s\", \"millis\": %d, \"files\": %s}",
+                    ProfileReport.escapeJson(task.path()),
+                    task.tool(),
+                    task.outcome(),
+                    task.millis(),
+                    task.files()
+                )
+            );
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    private static String html(final List<ProfileService.ProfiledTask> tasks) {
+        final StringBuilder html = new StringBuilder(
+            "<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"UTF-8\">\n<title>Unifycode profile</title>\n</head>\n"
+                + "<body>\n<h1>Unifycode profile</h1>\n<table>\n"
+                + "<tr><th>Task</th><th>Tool</th><th>Outcome</th><th>Time (ms)</th><th>Files</th></tr>\n"
+        );
+        for (final ProfileService.ProfiledTask task : tasks) {
+            html.append(
+                String.format(
+                    Locale.ROOT,
+                    "<tr><td>%s</td><td>%s</td><td>%s</td><td>%d</td><td>%s</td></tr>%n",
+                    ProfileReport.escapeHtml(task.path()),
+                    task.tool(),
+                    task.outcome(),
+                    task.millis(),
+                    ProfileReport.files(task)
+                )
+            );
+        }
+        return html.append("</table>\n</body>\n</html>\n").toString();
+    }
+
+    private static String files(final ProfileService.ProfiledTask task) {
+        final String files;
+        if (task.files() == null) {
+            files = "-";
+        } else {
+            files = task.files().toString();
+        }
+        return files;
+    }
+
+    private static String escapeJson(final String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String escapeHtml(final String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
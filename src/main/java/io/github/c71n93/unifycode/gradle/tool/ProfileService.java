@@ -0,0 +1,64 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+
+/**
+ * Collects timings and file counts of the quality tool tasks of every project and writes one profile report when the
+ * build finishes. Each project reports its own tasks through a {@link ProjectProfile}.
+ *
+ * <p>Only wall-clock time is collected. Checkstyle and PMD run in Gradle worker processes, which report neither their
+ * CPU time nor per-rule timings, and neither tool task accepts PMD's benchmark option or Checkstyle audit listeners.
+ */
+public abstract class ProfileService implements BuildService<ProfileService.Parameters>, AutoCloseable {
+    /**
+     * Finished tool tasks by path.
+     */
+    private final Map<String, ProfiledTask> finished = new ConcurrentHashMap<>();
+
+    @Override
+    public void close() throws IOException {
+        if (!this.finished.isEmpty()) {
+            new ProfileReport(this.getParameters().getOutputDirectory().get().getAsFile())
+                .write(new ArrayList<>(this.finished.values()));
+        }
+    }
+
+    /**
+     * Adds a finished tool task to the profile.
+     *
+     * @param task finished task.
+     */
+    /* default */ void add(final ProfiledTask task) {
+        this.finished.put(task.path(), task);
+    }
+
+    /**
+     * Profiled tool task.
+     *
+     * @param path task path.
+     * @param tool tool name.
+     * @param outcome task outcome.
+     * @param millis wall-clock duration in milliseconds.
+     * @param files number of analyzed files, {@code null} when it is not known.
+     */
+    /* default */ record ProfiledTask(String path, String tool, String outcome, long millis, Integer files) {
+    }
+
+    /**
+     * Parameters of the profile service.
+     */
+    public interface Parameters extends BuildServiceParameters {
+        /**
+         * Directory the profile report is written to.
+         *
+         * @return report directory.
+         */
+        DirectoryProperty getOutputDirectory();
+    }
+}
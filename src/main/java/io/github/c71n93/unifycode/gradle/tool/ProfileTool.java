@@ -0,0 +1,67 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import com.diffplug.gradle.spotless.SpotlessTask;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.reporting.SingleFileReport;
+
+/**
+ * Opt-in profiling of quality tool tasks, enabled with the {@code unifycode.profile} Gradle property.
+ */
+public final class ProfileTool {
+    /**
+     * Gradle property enabling profiling.
+     */
+    private static final String PROPERTY = "unifycode.profile";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     */
+    public ProfileTool(final ToolProject project) {
+        this.project = project;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public ProfileTool(final Project project) {
+        this(new ToolProject(project));
+    }
+
+    /**
+     * Adds the Checkstyle, PMD and Spotless tasks of the project to the build-wide profile when the profiling property
+     * is set. Checkstyle file counts are read from the XML reports, which list every audited file.
+     */
+    public void configure() {
+        if (this.project.flag(ProfileTool.PROPERTY)) {
+            final Map<Class<? extends Task>, String> tools = new LinkedHashMap<>();
+            tools.put(Checkstyle.class, "checkstyle");
+            tools.put(Pmd.class, "pmd");
+            tools.put(SpotlessTask.class, "spotless");
+            this.project.profileService(
+                this.project.taskPaths(tools),
+                this.project.taskFilesByPath(Checkstyle.class, ProfileTool::report)
+            );
+        }
+    }
+
+    private static Provider<File> report(final Checkstyle task) {
+        final SingleFileReport xml = task.getReports().getXml();
+        return xml.getRequired().flatMap(required -> xml.getOutputLocation().getAsFile().filter(file -> required));
+    }
+}
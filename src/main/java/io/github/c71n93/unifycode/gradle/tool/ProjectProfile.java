@@ -0,0 +1,131 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.gradle.api.GradleException;
+import org.gradle.api.provider.MapProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.gradle.tooling.events.FinishEvent;
+import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSkippedResult;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+
+/**
+ * Reports the finished quality tool tasks of one project to the build-wide {@link ProfileService}. Each project
+ * registers its own listener with its own tasks, so no project changes the parameters of another.
+ *
+ * <p>File counts come from the Checkstyle XML reports, which list every audited file. PMD reports only list files with
+ * violations, so PMD tasks have no file count.
+ */
+public abstract class ProjectProfile implements BuildService<ProjectProfile.Parameters>, OperationCompletionListener {
+    @Override
+    public void onFinish(final FinishEvent event) {
+        if (event instanceof TaskFinishEvent) {
+            final String path = ((TaskFinishEvent) event).getDescriptor().getTaskPath();
+            final String tool = this.getParameters().getTasks().get().get(path);
+            if (tool != null) {
+                final TaskOperationResult result = ((TaskFinishEvent) event).getResult();
+                final String outcome = ProjectProfile.outcome(result);
+                this.getParameters().getProfile().get().add(
+                    new ProfileService.ProfiledTask(
+                        path,
+                        tool,
+                        outcome,
+                        result.getEndTime() - result.getStartTime(),
+                        this.files(path, outcome)
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Number of files listed by the XML report of a task.
+     *
+     * @param path task path.
+     * @param outcome task outcome.
+     * @return number of files, {@code null} when the task has no report listing every file.
+     */
+    private Integer files(final String path, final String outcome) {
+        final File report = this.getParameters().getReports().get().get(path);
+        Integer files = null;
+        if (report != null && report.isFile() && !"skipped".equals(outcome)) {
+            files = ProjectProfile.count(report);
+        }
+        return files;
+    }
+
+    private static int count(final File report) {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        int files = 0;
+        try (InputStream stream = Files.newInputStream(report.toPath())) {
+            final XMLStreamReader xml = factory.createXMLStreamReader(stream);
+            try {
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "file".equals(xml.getLocalName())) {
+                        ++files;
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        } catch (final IOException | XMLStreamException exception) {
+            throw new GradleException("Could not read report: " + report, exception);
+        }
+        return files;
+    }
+
+    private static String outcome(final TaskOperationResult result) {
+        final String outcome;
+        if (result instanceof TaskSuccessResult && ((TaskSuccessResult) result).isFromCache()) {
+            outcome = "from-cache";
+        } else if (result instanceof TaskSuccessResult && ((TaskSuccessResult) result).isUpToDate()) {
+            outcome = "up-to-date";
+        } else if (result instanceof TaskSuccessResult) {
+            outcome = "executed";
+        } else if (result instanceof TaskSkippedResult) {
+            outcome = "skipped";
+        } else {
+            outcome = "failed";
+        }
+        return outcome;
+    }
+
+    /**
+     * Parameters of the project profile listener.
+     */
+    public interface Parameters extends BuildServiceParameters {
+        /**
+         * Profiled task paths mapped to their tool names.
+         *
+         * @return profiled tasks.
+         */
+        MapProperty<String, String> getTasks();
+
+        /**
+         * XML reports listing every analyzed file, by task path.
+         *
+         * @return task reports.
+         */
+        MapProperty<String, File> getReports();
+
+        /**
+         * Build-wide profile the finished tasks are added to.
+         *
+         * @return profile service.
+         */
+        Property<ProfileService> getProfile();
+    }
+}
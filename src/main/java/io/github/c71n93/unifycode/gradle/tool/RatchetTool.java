@@ -0,0 +1,83 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
+import java.util.Set;
+import org.gradle.api.Project;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Narrows Checkstyle and PMD sources to files changed against the configured ratchet ref.
+ */
+public final class RatchetTool {
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Git ref to compare against, absent when every file is checked.
+     */
+    private final Provider<String> ref;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param ref git ref to compare against.
+     */
+    public RatchetTool(final ToolProject project, final Provider<String> ref) {
+        this.project = project;
+        this.ref = ref;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public RatchetTool(final Project project) {
+        this(
+            new ToolProject(project),
+            project.getExtensions().getByType(UnifycodeExtension.class).getRatchetFrom()
+        );
+    }
+
+    /**
+     * Restricts Checkstyle and PMD tasks to changed files.
+     */
+    public void configure() {
+        final Spec<FileTreeElement> changed = new ChangedFileSpec(this.project.changedFiles(this.ref));
+        this.project.configureTasks(Checkstyle.class, task -> task.include(changed));
+        this.project.configureTasks(Pmd.class, task -> task.include(changed));
+    }
+
+    /**
+     * Accepts directories and changed files, or everything when no ratchet ref is configured.
+     */
+    private static final class ChangedFileSpec implements Spec<FileTreeElement> {
+        /**
+         * Changed files as absolute paths, absent when no ratchet ref is configured.
+         */
+        private final Provider<Set<String>> changed;
+
+        /**
+         * New spec.
+         *
+         * @param changed changed files.
+         */
+        ChangedFileSpec(final Provider<Set<String>> changed) {
+            this.changed = changed;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(final FileTreeElement element) {
+            return element.isDirectory()
+                || !this.changed.isPresent()
+                || this.changed.get().contains(element.getFile().getAbsolutePath());
+        }
+    }
+}
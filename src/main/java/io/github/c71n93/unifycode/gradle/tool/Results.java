@@ -0,0 +1,19 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.IOException;
+
+/**
+ * Receiver of quality tool results read from tool reports.
+ */
+interface Results {
+    /**
+     * Receives a result.
+     *
+     * @param rule rule id.
+     * @param level SARIF level.
+     * @param message result message.
+     * @param location result location.
+     * @throws IOException on result processing failure.
+     */
+    void result(String rule, String level, String message, SarifWriter.Location location) throws IOException;
+}
@@ -0,0 +1,154 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.DisableCachingByDefault;
+
+/**
+ * Merges the Checkstyle, PMD and Spotless results of a project and the SARIF reports of its child projects into one
+ * SARIF report. Reports are streamed, so memory use does not depend on their size.
+ */
+@DisableCachingByDefault(because = "Merging reports is cheaper than loading them from the cache")
+public abstract class SarifReportTask extends DefaultTask {
+    /**
+     * Checkstyle XML reports of the project.
+     *
+     * @return checkstyle reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getCheckstyleReports();
+
+    /**
+     * PMD XML reports of the project.
+     *
+     * @return PMD reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getPmdReports();
+
+    /**
+     * Spotless output directories holding the formatted version of every file that is not formatted.
+     *
+     * @return spotless output directories.
+     */
+    @InputFiles
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getFormatting();
+
+    /**
+     * SARIF reports of the child projects.
+     *
+     * @return child project reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getChildReports();
+
+    /**
+     * Path of the project the results belong to.
+     *
+     * @return project path.
+     */
+    @Input
+    public abstract Property<String> getModule();
+
+    /**
+     * Root project directory result paths are relative to.
+     *
+     * @return root project directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    /**
+     * Project directory Spotless output paths are relative to.
+     *
+     * @return project directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getProjectDirectory();
+
+    /**
+     * SARIF report.
+     *
+     * @return report file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    /**
+     * Writes the SARIF report.
+     */
+    @TaskAction
+    public void merge() {
+        final File report = this.getReport().get().getAsFile();
+        final Path root = this.getRootDirectory().get().getAsFile().toPath();
+        try {
+            Files.createDirectories(report.toPath().getParent());
+            try (SarifWriter sarif = new SarifWriter(report)) {
+                final XmlReports xml = new XmlReports(root, sarif);
+                sarif.run("Checkstyle", "https://checkstyle.org/", this.id("checkstyle"));
+                for (final File file : this.getCheckstyleReports().filter(File::isFile)) {
+                    xml.checkstyle(file);
+                }
+                sarif.end();
+                sarif.run("PMD", "https://pmd.github.io/", this.id("pmd"));
+                for (final File file : this.getPmdReports().filter(File::isFile)) {
+                    xml.pmd(file);
+                }
+                sarif.end();
+                sarif.run("Spotless", "https://github.com/diffplug/spotless", this.id("spotless"));
+                this.formatting(sarif, xml);
+                sarif.end();
+                for (final File file : this.getChildReports().filter(File::isFile)) {
+                    sarif.runs(file);
+                }
+            }
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not write SARIF report: " + report, exception);
+        }
+    }
+
+    private void formatting(final SarifWriter sarif, final XmlReports xml) throws IOException {
+        final Path project = this.getProjectDirectory().get().getAsFile().toPath();
+        final List<String> files = new ArrayList<>();
+        this.getFormatting().getAsFileTree().visit(details -> {
+            if (!details.isDirectory()) {
+                files.add(details.getPath());
+            }
+        });
+        for (final String file : files) {
+            sarif.result(
+                "format",
+                "error",
+                "File is not formatted. Run unifycodeFormat to format it.",
+                new SarifWriter.Location(xml.uri(project.resolve(file).toString()), 0, 0)
+            );
+        }
+    }
+
+    private String id(final String tool) {
+        return this.getModule().get() + "/" + tool + "/";
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import com.diffplug.gradle.spotless.SpotlessTask;
+import java.io.File;
+import org.gradle.api.Project;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.reporting.SingleFileReport;
+import org.gradle.api.tasks.TaskProvider;
+
+/**
+ * SARIF report of the quality tool results of a project and its child projects.
+ */
+public final class SarifTool {
+    /**
+     * Report task name.
+     */
+    private static final String REPORT = "unifycodeReport";
+
+    /**
+     * Name of the configurations sharing SARIF reports with parent projects.
+     */
+    private static final String SHARED = "unifycodeSarif";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     */
+    public SarifTool(final ToolProject project) {
+        this.project = project;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public SarifTool(final Project project) {
+        this(new ToolProject(project));
+    }
+
+    /**
+     * Registers the report task and runs it after every Checkstyle and PMD task, including failed ones. The report
+     * reads the results of the tasks that run in the same build only, so a report finalizing one project's checks
+     * does not pick up results other projects left behind in earlier builds.
+     */
+    public void configure() {
+        final TaskProvider<SarifReportTask> report = this.project.registerTask(
+            SarifTool.REPORT,
+            SarifReportTask.class,
+            task -> {
+                task.setGroup("verification");
+                task.setDescription("Merges quality tool results of this project and its subprojects into SARIF.");
+                task.getCheckstyleReports().from(
+                    this.project.scheduledTaskFiles(
+                        Checkstyle.class,
+                        tool -> SarifTool.xml(tool.getReports().getXml())
+                    )
+                );
+                task.getPmdReports().from(
+                    this.project.scheduledTaskFiles(Pmd.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+                );
+                task.getFormatting().from(
+                    this.project.scheduledTaskFiles(SpotlessTask.class, SpotlessTask::getCleanDirectory)
+                );
+                task.getModule().set(this.project.path());
+                task.getRootDirectory().set(this.project.rootDirectory());
+                task.getProjectDirectory().set(this.project.projectDirectory());
+                task.getReport().set(this.project.buildFile("reports/unifycode/unifycode.sarif"));
+                task.mustRunAfter(
+                    this.project.tasks(Checkstyle.class),
+                    this.project.tasks(Pmd.class),
+                    this.project.tasks(SpotlessTask.class)
+                );
+            }
+        );
+        final FileCollection children = this.project.shared(
+            SarifTool.SHARED,
+            report.flatMap(SarifReportTask::getReport),
+            this.project.childProjects()
+        );
+        report.configure(task -> task.getChildReports().from(children));
+        this.project.configureTasks(Checkstyle.class, task -> task.finalizedBy(report));
+        this.project.configureTasks(Pmd.class, task -> task.finalizedBy(report));
+    }
+
+    /**
+     * XML report file of a quality tool task.
+     *
+     * @param report XML report.
+     * @return report file, or {@code null} when the report is not required.
+     */
+    /* default */ static File xml(final SingleFileReport report) {
+        File file = null;
+        if (report.getRequired().get()) {
+            file = report.getOutputLocation().get().getAsFile();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,230 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+import org.gradle.api.GradleException;
+
+/**
+ * Streaming SARIF 2.1.0 writer. Results are written as they are read, and runs of other Unifycode SARIF reports are
+ * copied byte for byte, so memory use does not grow with the report size.
+ */
+final class SarifWriter implements Closeable, Results {
+    /**
+     * Report text preceding the runs.
+     */
+    private static final byte[] HEADER = (
+        "{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",\"version\":\"2.1.0\",\"runs\":["
+    ).getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Report text following the runs.
+     */
+    private static final byte[] FOOTER = "]}\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Copy buffer size.
+     */
+    private static final int BUFFER = 8192;
+
+    /**
+     * Report stream.
+     */
+    private final OutputStream stream;
+
+    /**
+     * Report writer over the report stream.
+     */
+    private final Writer writer;
+
+    /**
+     * Whether the report header was written.
+     */
+    private boolean started;
+
+    /**
+     * Number of runs written so far.
+     */
+    private int runs;
+
+    /**
+     * Number of results written to the current run.
+     */
+    private int results;
+
+    /**
+     * New writer.
+     *
+     * @param report report file.
+     * @throws IOException on report creation failure.
+     */
+    /* default */ SarifWriter(final File report) throws IOException {
+        this(new BufferedOutputStream(Files.newOutputStream(report.toPath())));
+    }
+
+    private SarifWriter(final OutputStream stream) {
+        this.stream = stream;
+        this.writer = new OutputStreamWriter(stream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts a run.
+     *
+     * @param tool tool name.
+     * @param information tool information URI.
+     * @param id run id, unique within the report.
+     * @throws IOException on report write failure.
+     */
+    /* default */ void run(final String tool, final String information, final String id) throws IOException {
+        this.nextRun();
+        this.results = 0;
+        this.writer.write("{\"tool\":{\"driver\":{\"name\":");
+        this.string(tool);
+        this.writer.write(",\"informationUri\":");
+        this.string(information);
+        this.writer.write("}},\"automationDetails\":{\"id\":");
+        this.string(id);
+        this.writer.write("},\"columnKind\":\"unicodeCodePoints\",\"results\":[");
+    }
+
+    /**
+     * Writes a result of the current run.
+     *
+     * @param rule rule id.
+     * @param level SARIF level.
+     * @param message result message.
+     * @param location result location.
+     * @throws IOException on report write failure.
+     */
+    @Override
+    public void result(
+        final String rule,
+        final String level,
+        final String message,
+        final Location location
+    ) throws IOException {
+        this.separate(this.results);
+        this.results += 1;
+        this.writer.write("{\"ruleId\":");
+        this.string(rule);
+        this.writer.write(",\"level\":");
+        this.string(level);
+        this.writer.write(",\"message\":{\"text\":");
+        this.string(message);
+        this.writer.write("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":");
+        this.string(location.uri());
+        this.writer.write(",\"uriBaseId\":\"%SRCROOT%\"}");
+        if (location.line() > 0) {
+            this.writer.write(String.format(Locale.ROOT, ",\"region\":{\"startLine\":%d", location.line()));
+            if (location.column() > 0) {
+                this.writer.write(String.format(Locale.ROOT, ",\"startColumn\":%d", location.column()));
+            }
+            this.writer.write('}');
+        }
+        this.writer.write("}}]}");
+    }
+
+    /**
+     * Finishes the current run.
+     *
+     * @throws IOException on report write failure.
+     */
+    /* default */ void end() throws IOException {
+        this.writer.write("]}");
+    }
+
+    /**
+     * Copies every run of another report written by this class.
+     *
+     * @param report other report.
+     * @throws IOException on report read or write failure.
+     */
+    /* default */ void runs(final File report) throws IOException {
+        final long size = Files.size(report.toPath()) - SarifWriter.HEADER.length - SarifWriter.FOOTER.length;
+        try (InputStream input = Files.newInputStream(report.toPath())) {
+            if (size < 0 || !Arrays.equals(input.readNBytes(SarifWriter.HEADER.length), SarifWriter.HEADER)) {
+                throw new GradleException("Not a Unifycode SARIF report: " + report);
+            }
+            if (size > 0) {
+                this.nextRun();
+                this.writer.flush();
+                SarifWriter.copy(input, this.stream, size);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.start();
+        this.writer.flush();
+        this.stream.write(SarifWriter.FOOTER);
+        this.writer.close();
+    }
+
+    private void start() throws IOException {
+        if (!this.started) {
+            this.stream.write(SarifWriter.HEADER);
+            this.started = true;
+        }
+    }
+
+    private void nextRun() throws IOException {
+        this.start();
+        this.separate(this.runs);
+        this.runs += 1;
+    }
+
+    private void separate(final int written) throws IOException {
+        if (written > 0) {
+            this.writer.write(',');
+        }
+    }
+
+    private void string(final String value) throws IOException {
+        this.writer.write('"');
+        for (int index = 0; index < value.length(); ++index) {
+            final char symbol = value.charAt(index);
+            if (symbol == '"' || symbol == '\\') {
+                this.writer.write('\\');
+                this.writer.write(symbol);
+            } else if (symbol < ' ') {
+                this.writer.write(String.format(Locale.ROOT, "\\u%04x", (int) symbol));
+            } else {
+                this.writer.write(symbol);
+            }
+        }
+        this.writer.write('"');
+    }
+
+    private static void copy(final InputStream input, final OutputStream output, final long size) throws IOException {
+        final byte[] buffer = new byte[SarifWriter.BUFFER];
+        long left = size;
+        while (left > 0) {
+            final int read = input.read(buffer, 0, (int) Math.min(buffer.length, left));
+            if (read < 0) {
+                throw new IOException("Unexpected end of SARIF report");
+            }
+            output.write(buffer, 0, read);
+            left -= read;
+        }
+    }
+
+    /**
+     * Location of a result.
+     *
+     * @param uri file path relative to the root project directory.
+     * @param line line number, or zero when unknown.
+     * @param column column number, or zero when unknown.
+     */
+    /* default */ record Location(String uri, int line, int column) {
+    }
+}
@@ -1,8 +1,15 @@
 package io.github.c71n93.unifycode.gradle.tool;
 
 import com.diffplug.gradle.spotless.SpotlessExtension;
+import com.diffplug.gradle.spotless.SpotlessTask;
+import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
 import java.io.File;
+import org.gradle.api.Action;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.provider.Provider;
 
 /**
  * Spotless configuration tool.
@@ -13,25 +20,35 @@ public final class SpotlessTool {
      */
     private static final String RESOURCE = "io/github/c71n93/unifycode/spotless/eclipse-java-formatter.xml";
 
+    /**
+     * Spotless Java format task name.
+     */
+    private static final String JAVA = "spotlessJava";
+
+    /**
+     * Length of the checksum prefix in format index file names.
+     */
+    private static final int CHECKSUM_PREFIX = 12;
+
     /**
      * Project facade.
      */
     private final ToolProject project;
 
     /**
-     * Resource copier.
+     * Git ref formatting checks are narrowed to.
      */
-    private final UnifycodeResources resources;
+    private final Provider<String> ratchet;
 
     /**
-     * New tool configured with an explicit project facade and resource copier.
+     * New tool configured with an explicit project facade.
      *
      * @param project project facade.
-     * @param resources resource copier.
+     * @param ratchet git ref formatting checks are narrowed to.
      */
-    public SpotlessTool(final ToolProject project, final UnifycodeResources resources) {
+    public SpotlessTool(final ToolProject project, final Provider<String> ratchet) {
         this.project = project;
-        this.resources = resources;
+        this.ratchet = ratchet;
     }
 
     /**
@@ -40,17 +57,95 @@ public final class SpotlessTool {
      * @param project current project.
      */
     public SpotlessTool(final Project project) {
-        this(new ToolProject(project), new UnifycodeResources(project));
+        this(
+            new ToolProject(project),
+            project.getExtensions().getByType(UnifycodeExtension.class).getRatchetFrom()
+        );
     }
 
     /**
-     * Applies Spotless and configures its formatter.
+     * Applies Spotless and configures its formatter. Java sources recorded as formatted with their current content and
+     * the current formatter configuration are left out of the Spotless target, so only new and changed sources are
+     * formatted, even when Spotless runs from scratch. Nothing is recorded while a ratchet is set, since Spotless then
+     * skips unchanged sources without checking them. The ratchet is handed to Spotless when its Java task is created,
+     * which happens before Spotless reads it to set the task up.
      */
     public void configure() {
         this.project.applyPlugin("com.diffplug.spotless");
-        final File config = this.resources.copy(SpotlessTool.RESOURCE);
+        final Provider<RegularFile> config = this.project.config(SpotlessTool.RESOURCE);
+        final FormatIndex index = new FormatIndex(
+            this.project.buildFile("unifycode/spotless/java-" + SpotlessTool.configKey() + ".idx"),
+            this.project.projectDirectory().getAsFile()
+        );
+        final FileCollection target = this.project.allJava()
+            .filter(new ListedFiles(this.project.listedFiles(StagedTool.PROPERTY)))
+            .filter(index);
         this.project.configureExtension(SpotlessExtension.class, extension -> extension.java(java -> {
+            java.target(target);
             java.eclipse().configFile(config);
         }));
+        this.project.dependOnConfig(SpotlessTask.class);
+        this.project.configureTasks(SpotlessTask.class, task -> {
+            if (SpotlessTool.JAVA.equals(task.getName())) {
+                if (this.ratchet.isPresent()) {
+                    this.project.configureExtension(
+                        SpotlessExtension.class,
+                        extension -> extension.setRatchetFrom(this.ratchet.get())
+                    );
+                }
+                task.getLocalState().register(index.file());
+                task.doLast(new RecordFormatted(index, target, this.ratchet));
+            }
+        });
+    }
+
+    private static String configKey() {
+        final String version = SpotlessTask.class.getPackage().getImplementationVersion();
+        String key = UnifycodeResources.checksum(SpotlessTool.RESOURCE).substring(0, SpotlessTool.CHECKSUM_PREFIX);
+        if (version != null) {
+            key = key + "-" + version;
+        }
+        return key;
+    }
+
+    /**
+     * Records the sources a successful Spotless run found formatted in the format index, unless a ratchet is set.
+     */
+    private static final class RecordFormatted implements Action<Task> {
+        /**
+         * Format index.
+         */
+        private final FormatIndex index;
+
+        /**
+         * Sources Spotless formats.
+         */
+        private final FileCollection target;
+
+        /**
+         * Git ref Spotless ratchets from.
+         */
+        private final Provider<String> ratchet;
+
+        /**
+         * New action.
+         *
+         * @param index format index.
+         * @param target sources Spotless formats.
+         * @param ratchet git ref Spotless ratchets from.
+         */
+        RecordFormatted(final FormatIndex index, final FileCollection target, final Provider<String> ratchet) {
+            this.index = index;
+            this.target = target;
+            this.ratchet = ratchet;
+        }
+
+        @Override
+        public void execute(final Task task) {
+            if (!this.ratchet.isPresent()) {
+                final File output = ((SpotlessTask) task).getCleanDirectory();
+                this.index.record(this.target.getFiles(), output);
+            }
+        }
     }
 }
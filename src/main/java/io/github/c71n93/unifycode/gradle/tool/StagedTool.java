@@ -0,0 +1,157 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import org.gradle.api.Action;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+
+/**
+ * Fast quality gate over the files staged for a commit. While the staged file list is given, Spotless, Checkstyle
+ * and PMD skip every other file, so tasks whose sources have no staged file are skipped as having no source.
+ */
+public final class StagedTool {
+    /**
+     * Gradle property pointing to the staged file list.
+     */
+    /* default */ static final String PROPERTY = "unifycode.stagedFiles";
+
+    /**
+     * Staged quality gate task name.
+     */
+    private static final String STAGED = "unifycodeStaged";
+
+    /**
+     * Spotless check task name.
+     */
+    private static final String SPOTLESS_CHECK = "spotlessCheck";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * Staged files as absolute paths, absent when no staged file list is given.
+     */
+    private final Provider<Set<String>> staged;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     * @param staged staged files as absolute paths.
+     */
+    public StagedTool(final ToolProject project, final Provider<Set<String>> staged) {
+        this.project = project;
+        this.staged = staged;
+    }
+
+    /**
+     * New tool reading the staged file list from the Gradle property.
+     *
+     * @param project project facade.
+     */
+    public StagedTool(final ToolProject project) {
+        this(project, project.listedFiles(StagedTool.PROPERTY));
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public StagedTool(final Project project) {
+        this(new ToolProject(project));
+    }
+
+    /**
+     * Narrows Checkstyle and PMD to the staged files and registers the staged quality gate.
+     */
+    public void configure() {
+        final Spec<FileTreeElement> unstaged = new UnstagedFileSpec(new ListedFiles(this.staged));
+        this.project.configureTasks(Checkstyle.class, task -> task.exclude(unstaged));
+        this.project.configureTasks(Pmd.class, task -> task.exclude(unstaged));
+        this.project.registerTask(StagedTool.STAGED, DefaultTask.class, task -> {
+            task.setGroup("verification");
+            task.setDescription(
+                "Runs Spotless, Checkstyle and PMD on the files listed by the " + StagedTool.PROPERTY + " property."
+            );
+            task.dependsOn((Callable<Iterable<? extends Task>>) this::gateTasks);
+            task.doFirst(new RequireStagedFiles(this.staged));
+        });
+    }
+
+    private Iterable<? extends Task> gateTasks() {
+        final List<Task> tasks = new ArrayList<>();
+        if (this.staged.isPresent()) {
+            this.project.namedTask(StagedTool.SPOTLESS_CHECK).forEach(tasks::add);
+            tasks.addAll(this.project.tasks(Checkstyle.class));
+            tasks.addAll(this.project.tasks(Pmd.class));
+        }
+        return tasks;
+    }
+
+    /**
+     * Accepts files that are not staged, so excluding them leaves directories and staged files.
+     */
+    private static final class UnstagedFileSpec implements Spec<FileTreeElement> {
+        /**
+         * Staged files.
+         */
+        private final Spec<File> staged;
+
+        /**
+         * New spec.
+         *
+         * @param staged staged files.
+         */
+        UnstagedFileSpec(final Spec<File> staged) {
+            this.staged = staged;
+        }
+
+        @Override
+        public boolean isSatisfiedBy(final FileTreeElement element) {
+            return !element.isDirectory() && !this.staged.isSatisfiedBy(element.getFile());
+        }
+    }
+
+    /**
+     * Fails the staged quality gate when no staged file list is given, instead of silently checking nothing.
+     */
+    private static final class RequireStagedFiles implements Action<Task> {
+        /**
+         * Staged files.
+         */
+        private final Provider<Set<String>> staged;
+
+        /**
+         * New action.
+         *
+         * @param staged staged files.
+         */
+        RequireStagedFiles(final Provider<Set<String>> staged) {
+            this.staged = staged;
+        }
+
+        @Override
+        public void execute(final Task task) {
+            if (!this.staged.isPresent()) {
+                throw new GradleException(
+                    "Set the " + StagedTool.PROPERTY + " property to a file listing the staged files, for example "
+                        + "-P" + StagedTool.PROPERTY + "=build/staged.txt."
+                );
+            }
+        }
+    }
+}
@@ -1,14 +1,57 @@
 package io.github.c71n93.unifycode.gradle.tool;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 import org.gradle.api.Action;
+import org.gradle.api.GradleException;
+import org.gradle.api.NamedDomainObjectProvider;
 import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.artifacts.ConfigurationContainer;
+import org.gradle.api.artifacts.DependencyScopeConfiguration;
+import org.gradle.api.artifacts.ExternalModuleDependency;
+import org.gradle.api.artifacts.ResolvableConfiguration;
+import org.gradle.api.artifacts.dsl.DependencyHandler;
+import org.gradle.api.attributes.Bundling;
+import org.gradle.api.attributes.Category;
+import org.gradle.api.attributes.Usage;
+import org.gradle.api.execution.TaskExecutionGraph;
+import org.gradle.api.file.Directory;
 import org.gradle.api.file.FileCollection;
+import org.gradle.api.file.RegularFile;
+import org.gradle.api.model.ObjectFactory;
+import org.gradle.api.plugins.quality.AbstractCodeQualityTask;
+import org.gradle.api.plugins.quality.CodeQualityExtension;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.resources.TextResource;
+import org.gradle.api.services.BuildServiceRegistry;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.SourceTask;
+import org.gradle.api.tasks.TaskCollection;
+import org.gradle.api.tasks.TaskProvider;
 
 /**
  * Facade over Gradle project capabilities available to tool configurators.
  */
 final class ToolProject {
+    /**
+     * Configuration extraction task name.
+     */
+    private static final String EXTRACT_CONFIG = "unifycodeExtractConfig";
+
     /**
      * Current Gradle project.
      */
@@ -44,12 +87,668 @@ final class ToolProject {
     }
 
     /**
-     * File collection for the given file.
+     * Lazily configures every task of the given type.
+     *
+     * @param type task type.
+     * @param action configuration action.
+     * @param <T> task type.
+     */
+    public <T extends Task> void configureTasks(final Class<T> type, final Action<? super T> action) {
+        this.project.getTasks().withType(type).configureEach(action);
+    }
+
+    /**
+     * Tasks of the given type.
+     *
+     * @param type task type.
+     * @param <T> task type.
+     * @return live task collection.
+     */
+    public <T extends Task> TaskCollection<T> tasks(final Class<T> type) {
+        return this.project.getTasks().withType(type);
+    }
+
+    /**
+     * Task of the given name.
+     *
+     * @param name task name.
+     * @return the task, or nothing when the project has no such task.
+     */
+    public List<Task> namedTask(final String name) {
+        final Task task = this.project.getTasks().findByName(name);
+        final List<Task> tasks = new ArrayList<>(1);
+        if (task != null) {
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Makes every task of the given type depend on configuration extraction.
+     *
+     * @param type task type.
+     * @param <T> task type.
+     */
+    public <T extends Task> void dependOnConfig(final Class<T> type) {
+        final TaskProvider<ExtractConfigTask> extract = this.extractConfig();
+        this.configureTasks(type, task -> task.dependsOn(extract));
+    }
+
+    /**
+     * Registers a bundled resource for extraction.
+     *
+     * @param resource classpath resource path.
+     * @return extracted file, carrying the extraction task dependency.
+     */
+    public Provider<RegularFile> config(final String resource) {
+        final TaskProvider<ExtractConfigTask> extract = this.extractConfig();
+        extract.configure(task -> task.getResources().add(resource));
+        return extract.flatMap(task -> task.getOutputDirectory().file(UnifycodeResources.filename(resource)));
+    }
+
+    /**
+     * Directory bundled resources are extracted to.
+     *
+     * @return extraction directory, carrying the extraction task dependency.
+     */
+    public Provider<Directory> configDirectory() {
+        return this.extractConfig().flatMap(ExtractConfigTask::getOutputDirectory);
+    }
+
+    /**
+     * File inside the project build directory.
+     *
+     * @param path path relative to the build directory.
+     * @return build file.
+     */
+    public Provider<RegularFile> buildFile(final String path) {
+        return this.project.getLayout().getBuildDirectory().file(path);
+    }
+
+    /**
+     * Directory inside the project build directory.
+     *
+     * @param path path relative to the build directory.
+     * @return build directory.
+     */
+    public Provider<Directory> buildDirectory(final String path) {
+        return this.project.getLayout().getBuildDirectory().dir(path);
+    }
+
+    /**
+     * Project path.
+     *
+     * @return project path.
+     */
+    public String path() {
+        return this.project.getPath();
+    }
+
+    /**
+     * Lazily registers a task.
+     *
+     * @param name task name.
+     * @param type task type.
+     * @param action configuration action.
+     * @param <T> task type.
+     * @return registered task.
+     */
+    public <T extends Task> TaskProvider<T> registerTask(
+        final String name,
+        final Class<T> type,
+        final Action<? super T> action
+    ) {
+        return this.project.getTasks().register(name, type, action);
+    }
+
+    /**
+     * Java sources of the main source set, empty until a plugin creates it.
+     *
+     * @return main Java sources.
+     */
+    public FileCollection mainJava() {
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final SourceSet main = this.project.getExtensions().getByType(SourceSetContainer.class)
+                    .findByName(SourceSet.MAIN_SOURCE_SET_NAME);
+                return main == null ? Collections.emptyList() : main.getJava();
+            }
+        );
+    }
+
+    /**
+     * Java sources of every source set, empty until a plugin creates source sets.
+     *
+     * @return Java sources.
+     */
+    public FileCollection allJava() {
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final List<FileCollection> sources = new ArrayList<>();
+                for (final SourceSet set : this.project.getExtensions().getByType(SourceSetContainer.class)) {
+                    sources.add(set.getAllJava());
+                }
+                return sources;
+            }
+        );
+    }
+
+    /**
+     * Compiled classes and compile classpath of the source set a task checks, which is what type resolution reads.
+     * Resources are left out, so changing them does not invalidate the analysis.
+     *
+     * @param task task name.
+     * @param verb task name prefix the source set adds, such as {@code pmd}.
+     * @return type classpath, empty when no source set owns the task.
+     */
+    public FileCollection typeClasspath(final String task, final String verb) {
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final List<FileCollection> classpath = new ArrayList<>(2);
+                for (final SourceSet set : this.project.getExtensions().getByType(SourceSetContainer.class)) {
+                    if (set.getTaskName(verb, null).equals(task)) {
+                        classpath.add(set.getOutput().getClassesDirs());
+                        classpath.add(set.getCompileClasspath());
+                    }
+                }
+                return classpath;
+            }
+        );
+    }
+
+    /**
+     * Name of the source set owning a task.
+     *
+     * @param task task name.
+     * @param verb task name prefix the source set adds, such as {@code pmd}.
+     * @return source set name, or an empty string when no source set owns the task.
+     */
+    public String sourceSet(final String task, final String verb) {
+        String name = "";
+        for (final SourceSet set : this.project.getExtensions().getByType(SourceSetContainer.class)) {
+            if (set.getTaskName(verb, null).equals(task)) {
+                name = set.getName();
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Plugin jar, or classes directory when the plugin is not packaged. The custom Checkstyle checks and PMD rules of
+     * the bundled configuration ship in it, so it goes on the tool classpaths.
+     *
+     * @return plugin classes.
+     */
+    public FileCollection pluginClasses() {
+        try {
+            return this.project.files(
+                new File(ToolProject.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+            );
+        } catch (final URISyntaxException exception) {
+            throw new GradleException("Could not locate the Unifycode plugin classes", exception);
+        }
+    }
+
+    /**
+     * Shares an artifact with other projects of the build and collects the artifacts they share under the same name.
+     * Projects that do not share one are skipped.
+     *
+     * @param name shared artifact name.
+     * @param own artifact shared by this project, as accepted by
+     *  {@link org.gradle.api.artifacts.ConfigurationPublications#artifact(Object)}.
+     * @param projects paths of the projects to collect artifacts from.
+     * @return artifacts shared by the given projects.
+     */
+    public FileCollection shared(final String name, final Object own, final Iterable<String> projects) {
+        final ConfigurationContainer configurations = this.project.getConfigurations();
+        final Category category = this.project.getObjects().named(Category.class, name);
+        configurations.consumable(name + "Elements", configuration -> {
+            configuration.attributes(attributes -> attributes.attribute(Category.CATEGORY_ATTRIBUTE, category));
+            configuration.getOutgoing().artifact(own);
+        });
+        final NamedDomainObjectProvider<DependencyScopeConfiguration> scope = configurations.dependencyScope(
+            name,
+            configuration -> {
+                for (final String path : projects) {
+                    configuration.getDependencies().add(
+                        this.project.getDependencies().project(Collections.singletonMap("path", path))
+                    );
+                }
+            }
+        );
+        final NamedDomainObjectProvider<ResolvableConfiguration> shared = configurations.resolvable(
+            name + "Path",
+            configuration -> {
+                configuration.extendsFrom(scope.get());
+                configuration.attributes(attributes -> attributes.attribute(Category.CATEGORY_ATTRIBUTE, category));
+            }
+        );
+        return this.project.files(
+            (Callable<Object>) () -> shared.get().getIncoming().artifactView(view -> view.lenient(true)).getFiles()
+        );
+    }
+
+    /**
+     * Paths of every other project of the build.
+     *
+     * @return project paths.
+     */
+    public List<String> otherProjects() {
+        final List<String> paths = new ArrayList<>();
+        for (final Project other : this.project.getRootProject().getAllprojects()) {
+            if (!other.getPath().equals(this.project.getPath())) {
+                paths.add(other.getPath());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Resolvable tool classpath at the given version. It extends the configuration the quality plugin declares for
+     * the tool, so dependencies added there stay on the classpath, and the tool modules are strictly pinned to the
+     * version.
+     *
+     * @param name classpath configuration name.
+     * @param tool tool configuration name.
+     * @param modules tool module coordinates without version.
+     * @param version tool version.
+     * @return tool classpath.
+     */
+    public FileCollection toolConfiguration(
+        final String name,
+        final String tool,
+        final List<String> modules,
+        final Provider<String> version
+    ) {
+        final ConfigurationContainer configurations = this.project.getConfigurations();
+        final ObjectFactory objects = this.project.getObjects();
+        final DependencyHandler dependencies = this.project.getDependencies();
+        return this.project.files(
+            configurations.resolvable(
+                name,
+                configuration -> {
+                    configuration.extendsFrom(configurations.getByName(tool));
+                    configuration.attributes(attributes -> {
+                        attributes.attribute(Usage.USAGE_ATTRIBUTE, objects.named(Usage.class, Usage.JAVA_RUNTIME));
+                        attributes.attribute(
+                            Category.CATEGORY_ATTRIBUTE,
+                            objects.named(Category.class, Category.LIBRARY)
+                        );
+                        attributes.attribute(
+                            Bundling.BUNDLING_ATTRIBUTE,
+                            objects.named(Bundling.class, Bundling.EXTERNAL)
+                        );
+                    });
+                    for (final String module : modules) {
+                        configuration.getDependencies().addLater(
+                            version.map(value -> {
+                                final ExternalModuleDependency dependency =
+                                    (ExternalModuleDependency) dependencies.create(module);
+                                dependency.version(constraint -> constraint.strictly(value));
+                                return dependency;
+                            })
+                        );
+                    }
+                }
+            )
+        );
+    }
+
+    /**
+     * Version a quality tool extension is set to, read when the provider is queried.
+     *
+     * @param type quality tool extension type.
+     * @param <T> quality tool extension type.
+     * @return tool version.
+     */
+    public <T extends CodeQualityExtension> Provider<String> toolVersion(final Class<T> type) {
+        final T extension = this.project.getExtensions().getByType(type);
+        return this.project.provider(extension::getToolVersion);
+    }
+
+    /**
+     * Makes a provider the convention of whether a quality tool task ignores failures, so the task follows the final
+     * policy value while an explicit task setting still wins. Gradle keeps the property of this setting protected, so
+     * it is reached reflectively.
+     *
+     * @param task quality tool task.
+     * @param ignores whether the task ignores failures.
+     */
+    public void ignoreFailures(final AbstractCodeQualityTask task, final Provider<Boolean> ignores) {
+        try {
+            final Method getter = AbstractCodeQualityTask.class.getDeclaredMethod("getIgnoreFailuresProperty");
+            getter.setAccessible(true);
+            @SuppressWarnings("unchecked")
+            final Property<Boolean> property = (Property<Boolean>) getter.invoke(task);
+            property.convention(ignores);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+            throw new GradleException("Could not configure ignoreFailures of " + task.getPath(), exception);
+        }
+    }
+
+    /**
+     * Paths of the direct child projects.
+     *
+     * @return project paths.
+     */
+    public List<String> childProjects() {
+        final List<String> paths = new ArrayList<>();
+        for (final Project child : this.project.getChildProjects().values()) {
+            paths.add(child.getPath());
+        }
+        return paths;
+    }
+
+    /**
+     * Root project directory.
+     *
+     * @return root project directory.
+     */
+    public Directory rootDirectory() {
+        return this.project.getLayout().getSettingsDirectory();
+    }
+
+    /**
+     * Project directory.
+     *
+     * @return project directory.
+     */
+    public Directory projectDirectory() {
+        return this.project.getLayout().getProjectDirectory();
+    }
+
+    /**
+     * Files of the tasks of the given type, without depending on the tasks.
+     *
+     * @param type task type.
+     * @param file task file, or {@code null} when the task has none.
+     * @param <T> task type.
+     * @return task files.
+     */
+    public <T extends Task> FileCollection taskFiles(final Class<T> type, final Function<T, File> file) {
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final List<File> files = new ArrayList<>();
+                for (final T task : this.project.getTasks().withType(type)) {
+                    final File value = file.apply(task);
+                    if (value != null) {
+                        files.add(value);
+                    }
+                }
+                return files;
+            }
+        );
+    }
+
+    /**
+     * Files of the tasks of the given type that run in this build, without depending on the tasks. Files of tasks left
+     * out of the task graph are skipped, so results left over from earlier builds are not read. Before the task graph
+     * is ready, every task of the type counts.
+     *
+     * @param type task type.
+     * @param file task file, or {@code null} when the task has none.
+     * @param <T> task type.
+     * @return task files.
+     */
+    public <T extends Task> FileCollection scheduledTaskFiles(final Class<T> type, final Function<T, File> file) {
+        final List<TaskExecutionGraph> ready = new ArrayList<>(1);
+        this.project.getGradle().getTaskGraph().whenReady(ready::add);
+        return this.taskFiles(
+            type,
+            task -> {
+                File value = null;
+                if (ready.isEmpty() || ready.get(0).hasTask(task)) {
+                    value = file.apply(task);
+                }
+                return value;
+            }
+        );
+    }
+
+    /**
+     * Sources of the tasks of the given type, without depending on the tasks.
+     *
+     * @param type task type.
+     * @param <T> task type.
+     * @return task sources.
+     */
+    public <T extends SourceTask> FileCollection taskSources(final Class<T> type) {
+        return this.project.files(
+            (Callable<Object>) () -> {
+                final List<FileCollection> sources = new ArrayList<>();
+                for (final T task : this.project.getTasks().withType(type)) {
+                    sources.add(task.getSource());
+                }
+                return sources;
+            }
+        );
+    }
+
+    /**
+     * Project files changed against a git ref.
+     *
+     * @param ref git ref to compare against.
+     * @return changed files as absolute paths, absent when the ref is absent.
+     */
+    public Provider<Set<String>> changedFiles(final Provider<String> ref) {
+        return ref.flatMap(
+            value -> this.project.getProviders().of(GitChangedFiles.class, spec -> {
+                spec.getParameters().getDirectory().set(this.project.getLayout().getProjectDirectory());
+                spec.getParameters().getRef().set(value);
+            })
+        );
+    }
+
+    /**
+     * Files listed one per line in the file a Gradle property points to. Relative paths in the property and in the
+     * list resolve against the root project directory, like the paths {@code git diff --name-only} prints.
+     *
+     * @param name property name.
+     * @return listed files as absolute paths, absent when the property is not set.
+     */
+    public Provider<Set<String>> listedFiles(final String name) {
+        final File root = this.rootDirectory().getAsFile();
+        return this.gradleProperty(name)
+            .flatMap(
+                path -> this.project.getProviders()
+                    .fileContents(this.project.getLayout().getSettingsDirectory().file(path))
+                    .getAsText()
+            )
+            .map(text -> ToolProject.absolute(root, text));
+    }
+
+    /**
+     * Whether a Gradle property is set to anything but {@code false}.
+     *
+     * @param name property name.
+     * @return whether the property is set.
+     */
+    public boolean flag(final String name) {
+        return this.gradleProperty(name)
+            .map(value -> !"false".equalsIgnoreCase(value))
+            .getOrElse(false);
+    }
+
+    /**
+     * Absolute path of a task of this project.
+     *
+     * @param name task name.
+     * @return task path.
+     */
+    public String taskPath(final String name) {
+        return this.project.absoluteProjectPath(name);
+    }
+
+    /**
+     * Runs an action once the task graph of the build is ready.
+     *
+     * @param action graph action.
+     */
+    public void whenTaskGraphReady(final Action<TaskExecutionGraph> action) {
+        this.project.getGradle().getTaskGraph().whenReady(action);
+    }
+
+    /**
+     * Gradle property.
+     *
+     * @param name property name.
+     * @return property value, absent when the property is not set.
+     */
+    public Provider<String> gradleProperty(final String name) {
+        return this.project.getProviders().gradleProperty(name);
+    }
+
+    /**
+     * Registers the analysis service shared by every project of the build. The first project to register it sets its
+     * slot count.
+     *
+     * @param slots maximum number of tasks using the service at once.
+     * @return analysis service.
+     */
+    public Provider<AnalysisService> analysisService(final int slots) {
+        return this.project.getGradle().getSharedServices().registerIfAbsent(
+            "unifycodeAnalysis",
+            AnalysisService.class,
+            spec -> spec.getMaxParallelUsages().set(slots)
+        );
+    }
+
+    /**
+     * Registers the duplicate detection service shared by every project of the build.
      *
-     * @param file file.
+     * @return duplicates service.
+     */
+    public Provider<DuplicatesService> duplicatesService() {
+        return this.project.getGradle().getSharedServices().registerIfAbsent(
+            "unifycodeDuplicates",
+            DuplicatesService.class
+        );
+    }
+
+    /**
+     * Paths of the tasks of the given types.
+     *
+     * @param names names keyed by task type.
+     * @return task paths mapped to the names of their types.
+     */
+    public Provider<Map<String, String>> taskPaths(final Map<Class<? extends Task>, String> names) {
+        return this.project.provider(() -> {
+            final Map<String, String> paths = new TreeMap<>();
+            for (final Map.Entry<Class<? extends Task>, String> type : names.entrySet()) {
+                for (final String task : this.project.getTasks().withType(type.getKey()).getNames()) {
+                    paths.put(this.project.absoluteProjectPath(task), type.getValue());
+                }
+            }
+            return paths;
+        });
+    }
+
+    /**
+     * Files of the tasks of the given type by task path, without depending on the tasks.
+     *
+     * @param type task type.
+     * @param file task file, absent when the task has none.
+     * @param <T> task type.
+     * @return task files by task path.
+     */
+    public <T extends Task> Provider<Map<String, File>> taskFilesByPath(
+        final Class<T> type,
+        final Function<T, Provider<File>> file
+    ) {
+        return this.project.provider(() -> {
+            final Map<String, File> files = new TreeMap<>();
+            for (final T task : this.project.getTasks().withType(type)) {
+                final File value = file.apply(task).getOrNull();
+                if (value != null) {
+                    files.put(task.getPath(), value);
+                }
+            }
+            return files;
+        });
+    }
+
+    /**
+     * Registers the profile service shared by every project of the build, and a listener that reports the tasks of
+     * this project to it. Every project registers the shared service with the same parameters, so whichever project
+     * comes first creates it, and the listener of each project carries only that project's tasks.
+     *
+     * @param tasks profiled task paths mapped to their tool names.
+     * @param reports XML reports listing every analyzed file, by task path.
+     * @return profile service.
+     */
+    public Provider<ProfileService> profileService(
+        final Provider<Map<String, String>> tasks,
+        final Provider<Map<String, File>> reports
+    ) {
+        final String name = "unifycodeProfile";
+        final BuildServiceRegistry services = this.project.getGradle().getSharedServices();
+        final Provider<ProfileService> service = services.registerIfAbsent(
+            name,
+            ProfileService.class,
+            spec -> spec.getParameters().getOutputDirectory().set(
+                this.project.getIsolated().getRootProject().getProjectDirectory().dir("build/unifycode/profile")
+            )
+        );
+        final Provider<ProjectProfile> listener = services.registerIfAbsent(
+            name + this.project.getPath(),
+            ProjectProfile.class,
+            spec -> {
+                spec.getParameters().getTasks().set(tasks);
+                spec.getParameters().getReports().set(reports);
+                spec.getParameters().getProfile().set(service);
+            }
+        );
+        this.project.getObjects().newInstance(ListenerRegistry.class).getRegistry().onTaskCompletion(listener);
+        return service;
+    }
+
+    /**
+     * Text resource backed by the given file.
+     *
+     * @param file file provider.
+     * @return text resource.
+     */
+    public TextResource text(final Provider<RegularFile> file) {
+        return this.project.getResources().getText().fromFile(file);
+    }
+
+    /**
+     * Text resource with the given content.
+     *
+     * @param text text content.
+     * @return text resource.
+     */
+    public TextResource text(final String text) {
+        return this.project.getResources().getText().fromString(text);
+    }
+
+    /**
+     * File collection for the given files.
+     *
+     * @param files files, as accepted by {@link Project#files(Object...)}.
      * @return file collection.
      */
-    public FileCollection files(final File file) {
-        return this.project.files(file);
+    public FileCollection files(final Object files) {
+        return this.project.files(files);
+    }
+
+    private TaskProvider<ExtractConfigTask> extractConfig() {
+        if (this.project.getTasks().getNames().contains(ToolProject.EXTRACT_CONFIG)) {
+            return this.project.getTasks().named(ToolProject.EXTRACT_CONFIG, ExtractConfigTask.class);
+        }
+        return this.project.getTasks().register(ToolProject.EXTRACT_CONFIG, ExtractConfigTask.class, task -> {
+            task.setDescription("Extracts bundled Unifycode tool configuration.");
+            task.getOutputDirectory().convention(
+                this.project.getLayout().getBuildDirectory().dir("unifycode/config")
+            );
+        });
+    }
+
+    private static Set<String> absolute(final File root, final String list) {
+        final Set<String> files = new TreeSet<>();
+        list.lines().map(String::strip).filter(line -> !line.isEmpty()).forEach(
+            line -> files.add(root.toPath().resolve(line).toAbsolutePath().normalize().toString())
+        );
+        return files;
     }
 }
@@ -4,10 +4,13 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import org.gradle.api.GradleException;
-import org.gradle.api.Project;
 
 /**
  * Resource copier.
@@ -27,15 +30,6 @@ final class UnifycodeResources {
         this.targetDir = targetDir;
     }
 
-    /**
-     * New resource copier for the given project.
-     *
-     * @param project current project.
-     */
-    public UnifycodeResources(final Project project) {
-        this(createTargetDir(project));
-    }
-
     /**
      * Copies a classpath resource into the target directory.
      *
@@ -45,10 +39,8 @@ final class UnifycodeResources {
      */
     public File copy(final String resourcePath, final String targetFilename) {
         final File targetFile = new File(this.targetDir, targetFilename);
-        try (InputStream input = UnifycodeResources.class.getResourceAsStream("/" + resourcePath)) {
-            if (input == null) {
-                throw new GradleException("Could not load resource: " + resourcePath);
-            }
+        try (InputStream input = UnifycodeResources.open(resourcePath)) {
+            Files.createDirectories(this.targetDir.toPath());
             Files.copy(input, targetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
             return targetFile;
         } catch (final IOException exception) {
@@ -63,6 +55,47 @@ final class UnifycodeResources {
      * @return copied file.
      */
     public File copy(final String resourcePath) {
+        return this.copy(resourcePath, UnifycodeResources.filename(resourcePath));
+    }
+
+    /**
+     * SHA-256 checksum of a classpath resource content.
+     *
+     * @param resourcePath resource path.
+     * @return lowercase hex checksum.
+     */
+    static String checksum(final String resourcePath) {
+        try (InputStream input = UnifycodeResources.open(resourcePath)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.readAllBytes()));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read resource: " + resourcePath, exception);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", exception);
+        }
+    }
+
+    /**
+     * Content of a UTF-8 classpath resource.
+     *
+     * @param resourcePath resource path.
+     * @return resource text.
+     */
+    static String text(final String resourcePath) {
+        try (InputStream input = UnifycodeResources.open(resourcePath)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not read resource: " + resourcePath, exception);
+        }
+    }
+
+    /**
+     * Target filename of a resource: its final path segment.
+     *
+     * @param resourcePath resource path.
+     * @return target filename.
+     */
+    static String filename(final String resourcePath) {
         // Resolve the target name from the last path segment for predictable output files.
         final int separator = resourcePath.lastIndexOf('/');
         final String targetFilename;
@@ -71,17 +104,14 @@ final class UnifycodeResources {
         } else {
             targetFilename = resourcePath.substring(separator + 1);
         }
-        return this.copy(resourcePath, targetFilename);
+        return targetFilename;
     }
 
-    private static File createTargetDir(final Project project) {
-        final File targetDir = new File(
-            project.getLayout().getBuildDirectory().getAsFile().get(),
-            "unifycode"
-        );
-        if (!targetDir.exists() && !targetDir.mkdirs()) {
-            throw new GradleException("Could not create directory: " + targetDir);
+    private static InputStream open(final String resourcePath) {
+        final InputStream input = UnifycodeResources.class.getResourceAsStream("/" + resourcePath);
+        if (input == null) {
+            throw new GradleException("Could not load resource: " + resourcePath);
         }
-        return targetDir;
+        return input;
     }
 }
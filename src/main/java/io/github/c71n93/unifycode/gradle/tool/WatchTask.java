@@ -0,0 +1,152 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.api.tasks.UntrackedTask;
+
+/**
+ * Prints the Checkstyle and PMD violations of a project that appeared or cleared since its previous run. Violations
+ * are matched by their baseline fingerprints, so a violation that only moved to another line is not reported again.
+ */
+@UntrackedTask(because = "Changes are printed against the previous run on every run")
+public abstract class WatchTask extends DefaultTask {
+    /**
+     * Checkstyle XML reports of the project.
+     *
+     * @return checkstyle reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getCheckstyleReports();
+
+    /**
+     * PMD XML reports of the project.
+     *
+     * @return PMD reports.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getPmdReports();
+
+    /**
+     * Root project directory fingerprinted paths are relative to.
+     *
+     * @return root project directory.
+     */
+    @Internal
+    public abstract DirectoryProperty getRootDirectory();
+
+    /**
+     * Violations of the previous run, one fingerprint and description per line.
+     *
+     * @return violations file.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getViolations();
+
+    /**
+     * Prints new and cleared violations and records the current ones for the next run.
+     */
+    @TaskAction
+    public void watch() {
+        final File state = this.getViolations().get().getAsFile();
+        final Path root = this.getRootDirectory().get().getAsFile().toPath();
+        final Baseline results = new Baseline(root);
+        final List<String> current = new ArrayList<>();
+        final List<String> previous;
+        try {
+            final XmlReports xml = new XmlReports(root, results);
+            for (final File file : this.getCheckstyleReports().filter(File::isFile)) {
+                xml.checkstyle(file);
+            }
+            for (final File file : this.getPmdReports().filter(File::isFile)) {
+                xml.pmd(file);
+            }
+            for (final Baseline.Violation violation : results.violations()) {
+                current.add(violation.fingerprint() + " " + violation.description());
+            }
+            if (state.isFile()) {
+                previous = Files.readAllLines(state.toPath(), StandardCharsets.UTF_8);
+            } else {
+                previous = Collections.emptyList();
+            }
+            Files.createDirectories(state.toPath().getParent());
+            Files.write(state.toPath(), current, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Could not record watched violations: " + state, exception);
+        }
+        final List<String> fresh = WatchTask.unmatched(current, previous);
+        final List<String> cleared = WatchTask.unmatched(previous, current);
+        for (final String line : cleared) {
+            this.getLogger().lifecycle("- {}", WatchTask.description(line));
+        }
+        for (final String line : fresh) {
+            this.getLogger().lifecycle("+ {}", WatchTask.description(line));
+        }
+        this.getLogger().lifecycle(
+            "{} violations, {} new, {} cleared.",
+            current.size(),
+            fresh.size(),
+            cleared.size()
+        );
+    }
+
+    /**
+     * Violation lines whose fingerprints the other lines do not match. Every other line matches one line with the same
+     * fingerprint.
+     *
+     * @param lines violation lines.
+     * @param others other violation lines.
+     * @return unmatched violation lines, in their order.
+     */
+    /* default */ static List<String> unmatched(final List<String> lines, final List<String> others) {
+        final Map<String, Integer> index = new HashMap<>();
+        for (final String other : others) {
+            index.merge(WatchTask.fingerprint(other), 1, Integer::sum);
+        }
+        final List<String> unmatched = new ArrayList<>();
+        for (final String line : lines) {
+            final Integer count = index.remove(WatchTask.fingerprint(line));
+            if (count == null) {
+                unmatched.add(line);
+            } else if (count > 1) {
+                index.put(WatchTask.fingerprint(line), count - 1);
+            }
+        }
+        return unmatched;
+    }
+
+    private static String fingerprint(final String line) {
+        final int space = line.indexOf(' ');
+        final String fingerprint;
+        if (space < 0) {
+            fingerprint = line;
+        } else {
+            fingerprint = line.substring(0, space);
+        }
+        return fingerprint;
+    }
+
+    private static String description(final String line) {
+        return line.substring(line.indexOf(' ') + 1);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.tasks.TaskProvider;
+import org.gradle.api.tasks.VerificationTask;
+
+/**
+ * Watch mode for continuous builds. Under {@code --continuous}, Gradle reruns the watch task on every saved source:
+ * Checkstyle and PMD run in their warm worker processes and analyze only changed files through their caches, and the
+ * watch task prints the violations that appeared or cleared. Violations do not fail the tools that only the watch task
+ * of the build depends on, so a violation does not stop the watch, while tools other gates depend on still fail.
+ */
+public final class WatchTool {
+    /**
+     * Watch task name.
+     */
+    /* default */ static final String WATCH = "unifycodeWatch";
+
+    /**
+     * Project facade.
+     */
+    private final ToolProject project;
+
+    /**
+     * New tool configured with an explicit project facade.
+     *
+     * @param project project facade.
+     */
+    public WatchTool(final ToolProject project) {
+        this.project = project;
+    }
+
+    /**
+     * New tool configured for the given project.
+     *
+     * @param project current project.
+     */
+    public WatchTool(final Project project) {
+        this(new ToolProject(project));
+    }
+
+    /**
+     * Registers the watch task and, once it is part of the task graph, keeps the tools only it depends on from failing.
+     */
+    public void configure() {
+        final TaskProvider<WatchTask> watch = this.project.registerTask(WatchTool.WATCH, WatchTask.class, task -> {
+            task.setGroup("verification");
+            task.setDescription(
+                "Prints new and cleared Checkstyle and PMD violations. Run with --continuous to check on every save."
+            );
+            task.dependsOn(this.project.tasks(Checkstyle.class), this.project.tasks(Pmd.class));
+            task.getCheckstyleReports().from(
+                this.project.taskFiles(Checkstyle.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getPmdReports().from(
+                this.project.taskFiles(Pmd.class, tool -> SarifTool.xml(tool.getReports().getXml()))
+            );
+            task.getRootDirectory().set(this.project.rootDirectory());
+            task.getViolations().set(this.project.buildFile("unifycode/watch/violations.txt"));
+        });
+        final String path = this.project.taskPath(WatchTool.WATCH);
+        this.project.whenTaskGraphReady(graph -> {
+            if (graph.hasTask(path)) {
+                final List<VerificationTask> tools = WatchTool.watchedOnly(
+                    watch.get(),
+                    graph.getAllTasks(),
+                    graph::getDependencies
+                );
+                for (final VerificationTask tool : tools) {
+                    tool.setIgnoreFailures(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * Verification tasks the watch task depends on that no other task of the graph depends on.
+     *
+     * @param watch watch task.
+     * @param tasks tasks of the graph.
+     * @param dependencies direct dependencies of a task of the graph.
+     * @return verification tasks only the watch task depends on.
+     */
+    /* default */ static List<VerificationTask> watchedOnly(
+        final Task watch,
+        final Collection<Task> tasks,
+        final Function<Task, Set<Task>> dependencies
+    ) {
+        final Set<Task> others = new HashSet<>();
+        for (final Task task : tasks) {
+            if (!task.equals(watch)) {
+                others.addAll(dependencies.apply(task));
+            }
+        }
+        final List<VerificationTask> watched = new ArrayList<>();
+        for (final Task tool : dependencies.apply(watch)) {
+            if (tool instanceof VerificationTask && !others.contains(tool)) {
+                watched.add((VerificationTask) tool);
+            }
+        }
+        return watched;
+    }
+}
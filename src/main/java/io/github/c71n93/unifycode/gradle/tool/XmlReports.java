@@ -0,0 +1,170 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.gradle.api.GradleException;
+
+/**
+ * Streams Checkstyle and PMD XML reports into results one element at a time.
+ */
+final class XmlReports {
+    /**
+     * Root project directory result paths are relative to.
+     */
+    private final Path root;
+
+    /**
+     * Result receiver.
+     */
+    private final Results results;
+
+    /**
+     * StAX factory with DTDs and external entities disabled.
+     */
+    private final XMLInputFactory factory;
+
+    /**
+     * New report reader.
+     *
+     * @param root root project directory.
+     * @param results result receiver.
+     */
+    /* default */ XmlReports(final Path root, final Results results) {
+        this.root = root;
+        this.results = results;
+        this.factory = XMLInputFactory.newFactory();
+    }
+
+    /**
+     * Writes the errors of a Checkstyle XML report.
+     *
+     * @param report checkstyle report.
+     * @throws IOException on report read or result processing failure.
+     */
+    /* default */ void checkstyle(final File report) throws IOException {
+        this.read(report, "error");
+    }
+
+    /**
+     * Writes the violations of a PMD XML report.
+     *
+     * @param report PMD report.
+     * @throws IOException on report read or result processing failure.
+     */
+    /* default */ void pmd(final File report) throws IOException {
+        this.read(report, "violation");
+    }
+
+    /**
+     * Path of a file relative to the root project directory, with forward slashes.
+     *
+     * @param file absolute file path.
+     * @return relative path.
+     */
+    /* default */ String uri(final String file) {
+        final Path path = Path.of(file);
+        Path relative = path;
+        if (path.isAbsolute() && path.startsWith(this.root)) {
+            relative = this.root.relativize(path);
+        }
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    private void read(final File report, final String element) throws IOException {
+        this.factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream stream = Files.newInputStream(report.toPath())) {
+            final XMLStreamReader xml = this.factory.createXMLStreamReader(stream);
+            try {
+                String file = "";
+                while (xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT && "file".equals(xml.getLocalName())) {
+                        file = this.uri(xml.getAttributeValue(null, "name"));
+                    } else if (xml.getEventType() == XMLStreamConstants.START_ELEMENT
+                        && element.equals(xml.getLocalName())) {
+                        this.result(xml, file);
+                    }
+                }
+            } finally {
+                xml.close();
+            }
+        } catch (final XMLStreamException exception) {
+            throw new GradleException("Could not read report: " + report, exception);
+        }
+    }
+
+    private void result(final XMLStreamReader xml, final String file) throws IOException, XMLStreamException {
+        if ("error".equals(xml.getLocalName())) {
+            this.results.result(
+                XmlReports.checkstyleRule(xml.getAttributeValue(null, "source")),
+                XmlReports.checkstyleLevel(xml.getAttributeValue(null, "severity")),
+                xml.getAttributeValue(null, "message"),
+                new SarifWriter.Location(
+                    file,
+                    XmlReports.number(xml.getAttributeValue(null, "line")),
+                    XmlReports.number(xml.getAttributeValue(null, "column"))
+                )
+            );
+        } else {
+            final String rule = xml.getAttributeValue(null, "rule");
+            final String level = XmlReports.pmdLevel(xml.getAttributeValue(null, "priority"));
+            final SarifWriter.Location location = new SarifWriter.Location(
+                file,
+                XmlReports.number(xml.getAttributeValue(null, "beginline")),
+                XmlReports.number(xml.getAttributeValue(null, "begincolumn"))
+            );
+            this.results.result(rule, level, xml.getElementText().strip(), location);
+        }
+    }
+
+    private static String checkstyleRule(final String source) {
+        String rule = "";
+        if (source != null) {
+            rule = source.substring(source.lastIndexOf('.') + 1);
+            if (rule.endsWith("Check")) {
+                rule = rule.substring(0, rule.length() - "Check".length());
+            }
+        }
+        return rule;
+    }
+
+    private static String checkstyleLevel(final String severity) {
+        final String level;
+        if ("error".equals(severity) || "warning".equals(severity)) {
+            level = severity;
+        } else if ("info".equals(severity)) {
+            level = "note";
+        } else {
+            level = "none";
+        }
+        return level;
+    }
+
+    private static String pmdLevel(final String priority) {
+        final int value = XmlReports.number(priority);
+        final String level;
+        if (value <= 2) {
+            level = "error";
+        } else if (value == 3) {
+            level = "warning";
+        } else {
+            level = "note";
+        }
+        return level;
+    }
+
+    private static int number(final String value) {
+        int number = 0;
+        if (value != null && !value.isEmpty()) {
+            number = Integer.parseInt(value);
+        }
+        return number;
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.HashSet;
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTFieldAccess;
+import net.sourceforge.pmd.lang.java.ast.ASTMethodCall;
+import net.sourceforge.pmd.lang.java.ast.ASTThisExpression;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports static fields and methods accessed through {@code this}. Each class declaration looks up the accesses whose
+ * nearest enclosing class declaration it is, against the static fields declared inside it and the static methods of
+ * its own body.
+ */
+public final class AvoidAccessToStaticMembersViaThisRule extends AbstractJavaRulechainRule {
+    /**
+     * New rule visiting class declarations.
+     */
+    public AvoidAccessToStaticMembersViaThisRule() {
+        super(ASTClassDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTClassDeclaration node, final Object data) {
+        final Set<String> fields = new HashSet<>();
+        final Set<String> methods = new HashSet<>();
+        StaticMembers.fields(node, fields);
+        StaticMembers.methods(node, methods);
+        if (!fields.isEmpty() || !methods.isEmpty()) {
+            this.report(node, fields, methods, data);
+        }
+        return null;
+    }
+
+    private void report(final JavaNode node, final Set<String> fields, final Set<String> methods, final Object data) {
+        for (int index = 0; index < node.getNumChildren(); ++index) {
+            final JavaNode child = node.getChild(index);
+            if (AvoidAccessToStaticMembersViaThisRule.named(child, fields, methods)
+                && JavaNodes.child(child, ASTThisExpression.class) != null) {
+                this.asCtx(data).addViolation(child);
+            }
+            if (!(child instanceof ASTClassDeclaration)) {
+                this.report(child, fields, methods, data);
+            }
+        }
+    }
+
+    private static boolean named(final JavaNode node, final Set<String> fields, final Set<String> methods) {
+        final boolean named;
+        if (node instanceof ASTFieldAccess) {
+            named = fields.contains(((ASTFieldAccess) node).getName());
+        } else if (node instanceof ASTMethodCall) {
+            named = methods.contains(((ASTMethodCall) node).getMethodName());
+        } else {
+            named = false;
+        }
+        return named;
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.HashSet;
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTCompilationUnit;
+import net.sourceforge.pmd.lang.java.ast.ASTVariableAccess;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports unqualified accesses to names of static fields declared anywhere in the file. The field names are collected
+ * once per file, then every access is looked up in them.
+ */
+public final class AvoidDirectAccessToStaticFieldsRule extends AbstractJavaRulechainRule {
+    /**
+     * New rule visiting compilation units.
+     */
+    public AvoidDirectAccessToStaticFieldsRule() {
+        super(ASTCompilationUnit.class);
+    }
+
+    @Override
+    public Object visit(final ASTCompilationUnit node, final Object data) {
+        final Set<String> fields = new HashSet<>();
+        StaticMembers.fields(node, fields);
+        if (!fields.isEmpty()) {
+            this.report(node, fields, data);
+        }
+        return null;
+    }
+
+    private void report(final JavaNode node, final Set<String> fields, final Object data) {
+        for (int index = 0; index < node.getNumChildren(); ++index) {
+            final JavaNode child = node.getChild(index);
+            if (child instanceof ASTVariableAccess && fields.contains(((ASTVariableAccess) child).getName())) {
+                this.asCtx(data).addViolation(child);
+            }
+            this.report(child, fields, data);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.c71n93.unifycode.pmd;
+
+import net.sourceforge.pmd.lang.java.ast.ASTAssignmentExpression;
+import net.sourceforge.pmd.lang.java.ast.ASTBlock;
+import net.sourceforge.pmd.lang.java.ast.ASTConstructorDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTExpressionStatement;
+import net.sourceforge.pmd.lang.java.ast.ASTFieldAccess;
+import net.sourceforge.pmd.lang.java.ast.ASTLambdaExpression;
+import net.sourceforge.pmd.lang.java.ast.ASTLocalVariableDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTThisExpression;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports constructor bodies whose local variables and expression statements do not add up to the {@code this} field
+ * accesses found directly on either side of their assignments, as the former XPath rule counted them. Calls to other
+ * constructors are allowed, and statements holding lambdas are not counted. So {@code this.a = this.b} is reported
+ * because it counts twice, and {@code x = this.y} passes because it counts once.
+ */
+public final class ConstructorOnlyInitializesOrCallOtherConstructorsRule extends AbstractJavaRulechainRule {
+    /**
+     * New rule visiting constructor declarations.
+     */
+    public ConstructorOnlyInitializesOrCallOtherConstructorsRule() {
+        super(ASTConstructorDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTConstructorDeclaration node, final Object data) {
+        final ASTBlock block = JavaNodes.child(node, ASTBlock.class);
+        if (block != null && !ConstructorOnlyInitializesOrCallOtherConstructorsRule.onlyInitializes(block)) {
+            this.asCtx(data).addViolation(block);
+        }
+        return null;
+    }
+
+    private static boolean onlyInitializes(final ASTBlock block) {
+        int statements = 0;
+        int initializations = 0;
+        for (int index = 0; index < block.getNumChildren(); ++index) {
+            final JavaNode statement = block.getChild(index);
+            if (statement instanceof ASTLocalVariableDeclaration) {
+                ++statements;
+            } else if (statement instanceof ASTExpressionStatement
+                && !JavaNodes.hasDescendant(statement, ASTLambdaExpression.class)) {
+                ++statements;
+                initializations += ConstructorOnlyInitializesOrCallOtherConstructorsRule.fieldAccesses(statement);
+            }
+        }
+        return statements == initializations;
+    }
+
+    private static int fieldAccesses(final JavaNode statement) {
+        final ASTAssignmentExpression assignment = JavaNodes.child(statement, ASTAssignmentExpression.class);
+        int accesses = 0;
+        for (int index = 0; assignment != null && index < assignment.getNumChildren(); ++index) {
+            final JavaNode operand = assignment.getChild(index);
+            if (operand instanceof ASTFieldAccess && JavaNodes.child(operand, ASTThisExpression.class) != null) {
+                ++accesses;
+            }
+        }
+        return accesses;
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.c71n93.unifycode.pmd;
+
+import net.sourceforge.pmd.lang.java.ast.ASTClassBody;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTConstructorDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTFieldDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclarator;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports classes that declare a constructor and also initialize instance fields at their declaration.
+ */
+public final class ConstructorShouldDoInitializationRule extends AbstractJavaRulechainRule {
+    /**
+     * New rule visiting class declarations.
+     */
+    public ConstructorShouldDoInitializationRule() {
+        super(ASTClassDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTClassDeclaration node, final Object data) {
+        final ASTClassBody body = JavaNodes.child(node, ASTClassBody.class);
+        if (body != null && ConstructorShouldDoInitializationRule.hasConstructor(body)
+            && ConstructorShouldDoInitializationRule.hasInitializedField(body)) {
+            this.asCtx(data).addViolation(node);
+        }
+        return null;
+    }
+
+    private static boolean hasConstructor(final ASTClassBody body) {
+        return JavaNodes.child(body, ASTConstructorDeclaration.class) != null;
+    }
+
+    private static boolean hasInitializedField(final ASTClassBody body) {
+        boolean found = false;
+        for (int index = 0; index < body.getNumChildren() && !found; ++index) {
+            final JavaNode member = body.getChild(index);
+            found = member instanceof ASTFieldDeclaration
+                && !((ASTFieldDeclaration) member).isStatic()
+                && ConstructorShouldDoInitializationRule.initialized(member);
+        }
+        return found;
+    }
+
+    private static boolean initialized(final JavaNode field) {
+        boolean found = false;
+        for (int index = 0; index < field.getNumChildren() && !found; ++index) {
+            final JavaNode child = field.getChild(index);
+            found = child instanceof ASTVariableDeclarator && ((ASTVariableDeclarator) child).hasInitializer();
+        }
+        return found;
+    }
+}
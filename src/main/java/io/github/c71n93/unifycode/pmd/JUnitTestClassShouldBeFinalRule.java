@@ -0,0 +1,46 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTAnnotation;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports non-final test classes: classes named {@code *Test} or holding JUnit test annotations.
+ */
+public final class JUnitTestClassShouldBeFinalRule extends AbstractJavaRulechainRule {
+    /**
+     * JUnit annotations marking tests.
+     */
+    private static final Set<String> TESTS = Set.of(
+        "Test", "ParameterizedTest", "RepeatedTest", "TestFactory", "TestTemplate"
+    );
+
+    /**
+     * New rule visiting class declarations.
+     */
+    public JUnitTestClassShouldBeFinalRule() {
+        super(ASTClassDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTClassDeclaration node, final Object data) {
+        if (!node.isInterface() && !node.isFinal()
+            && (node.getSimpleName().endsWith("Test") || JUnitTestClassShouldBeFinalRule.hasTests(node))) {
+            this.asCtx(data).addViolation(node);
+        }
+        return null;
+    }
+
+    private static boolean hasTests(final JavaNode node) {
+        boolean found = false;
+        for (int index = 0; index < node.getNumChildren() && !found; ++index) {
+            final JavaNode child = node.getChild(index);
+            found = child instanceof ASTAnnotation
+                && JUnitTestClassShouldBeFinalRule.TESTS.contains(((ASTAnnotation) child).getSimpleName())
+                || JUnitTestClassShouldBeFinalRule.hasTests(child);
+        }
+        return found;
+    }
+}
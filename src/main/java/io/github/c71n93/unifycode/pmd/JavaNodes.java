@@ -0,0 +1,78 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTClassType;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+
+/**
+ * Allocation-free navigation over Java AST nodes. Children are read by index, so rules can look around a node without
+ * creating node streams.
+ */
+final class JavaNodes {
+    /**
+     * Utility class.
+     */
+    private JavaNodes() {
+    }
+
+    /**
+     * First child of the given type.
+     *
+     * @param node parent node.
+     * @param type child type.
+     * @param <T> child type.
+     * @return first child of the type, or {@code null} when there is none.
+     */
+    /* default */ static <T extends JavaNode> T child(final JavaNode node, final Class<T> type) {
+        T found = null;
+        for (int index = 0; index < node.getNumChildren() && found == null; ++index) {
+            if (type.isInstance(node.getChild(index))) {
+                found = type.cast(node.getChild(index));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Whether any descendant of a node has the given type.
+     *
+     * @param node root node, not itself checked.
+     * @param type descendant type.
+     * @return whether a descendant has the type.
+     */
+    /* default */ static boolean hasDescendant(final JavaNode node, final Class<? extends JavaNode> type) {
+        boolean found = false;
+        for (int index = 0; index < node.getNumChildren() && !found; ++index) {
+            final JavaNode child = node.getChild(index);
+            found = type.isInstance(child) || JavaNodes.hasDescendant(child, type);
+        }
+        return found;
+    }
+
+    /**
+     * Nearest class or interface declaration enclosing a node. Enums, records and anonymous classes are skipped.
+     *
+     * @param node inner node.
+     * @return enclosing declaration, or {@code null} when there is none.
+     */
+    /* default */ static ASTClassDeclaration enclosingClass(final JavaNode node) {
+        JavaNode parent = node.getParent();
+        while (parent != null && !(parent instanceof ASTClassDeclaration)) {
+            parent = parent.getParent();
+        }
+        return (ASTClassDeclaration) parent;
+    }
+
+    /**
+     * Whether a node has a class type child with one of the given simple names.
+     *
+     * @param node parent node.
+     * @param names simple names.
+     * @return whether a class type child has one of the names.
+     */
+    /* default */ static boolean hasClassType(final JavaNode node, final Set<String> names) {
+        final ASTClassType type = JavaNodes.child(node, ASTClassType.class);
+        return type != null && names.contains(type.getSimpleName());
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.c71n93.unifycode.pmd;
+
+import net.sourceforge.pmd.lang.java.ast.ASTBlock;
+import net.sourceforge.pmd.lang.java.ast.ASTClassBody;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTConstructorDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTExpressionStatement;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports classes in which more than one constructor runs expression statements, instead of one main constructor
+ * doing the work and the others delegating to it.
+ */
+public final class OnlyOneConstructorShouldDoInitializationRule extends AbstractJavaRulechainRule {
+    /**
+     * New rule visiting class declarations.
+     */
+    public OnlyOneConstructorShouldDoInitializationRule() {
+        super(ASTClassDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTClassDeclaration node, final Object data) {
+        final ASTClassBody body = JavaNodes.child(node, ASTClassBody.class);
+        if (body != null) {
+            int working = 0;
+            for (int index = 0; index < body.getNumChildren(); ++index) {
+                if (body.getChild(index) instanceof ASTConstructorDeclaration) {
+                    final ASTBlock block = JavaNodes.child(body.getChild(index), ASTBlock.class);
+                    if (block != null && JavaNodes.child(block, ASTExpressionStatement.class) != null) {
+                        working += 1;
+                    }
+                }
+            }
+            if (working > 1) {
+                this.asCtx(data).addViolation(node);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTMethodCall;
+import net.sourceforge.pmd.lang.java.ast.ASTTypeExpression;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports {@code Files.createFile} calls inside test classes, whose names end with {@code Test}.
+ */
+public final class ProhibitFilesCreateFileInTestsRule extends AbstractJavaRulechainRule {
+    /**
+     * Type the call is qualified with.
+     */
+    private static final Set<String> FILES = Set.of("Files");
+
+    /**
+     * New rule visiting method calls.
+     */
+    public ProhibitFilesCreateFileInTestsRule() {
+        super(ASTMethodCall.class);
+    }
+
+    @Override
+    public Object visit(final ASTMethodCall node, final Object data) {
+        if ("createFile".equals(node.getMethodName())) {
+            final ASTTypeExpression type = JavaNodes.child(node, ASTTypeExpression.class);
+            if (type != null && JavaNodes.hasClassType(type, ProhibitFilesCreateFileInTestsRule.FILES)
+                && ProhibitFilesCreateFileInTestsRule.inTest(node)) {
+                this.asCtx(data).addViolation(node);
+            }
+        }
+        return null;
+    }
+
+    private static boolean inTest(final ASTMethodCall node) {
+        ASTClassDeclaration declaration = JavaNodes.enclosingClass(node);
+        while (declaration != null && !declaration.getSimpleName().endsWith("Test")) {
+            declaration = JavaNodes.enclosingClass(declaration);
+        }
+        return declaration != null;
+    }
+}
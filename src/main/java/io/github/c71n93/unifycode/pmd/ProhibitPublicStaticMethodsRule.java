@@ -0,0 +1,76 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTAnnotation;
+import net.sourceforge.pmd.lang.java.ast.ASTArrayType;
+import net.sourceforge.pmd.lang.java.ast.ASTFormalParameter;
+import net.sourceforge.pmd.lang.java.ast.ASTFormalParameters;
+import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTModifierList;
+import net.sourceforge.pmd.lang.java.ast.ASTVoidType;
+import net.sourceforge.pmd.lang.java.ast.JModifier;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+import net.sourceforge.pmd.lang.java.rule.AbstractJavaRulechainRule;
+
+/**
+ * Reports public static methods, except {@code main} methods and JUnit class-level hooks and parameter sources.
+ */
+public final class ProhibitPublicStaticMethodsRule extends AbstractJavaRulechainRule {
+    /**
+     * Annotations that require a public static method.
+     */
+    private static final Set<String> ANNOTATIONS = Set.of("BeforeClass", "AfterClass", "Parameters");
+
+    /**
+     * Parameter type of a main method.
+     */
+    private static final Set<String> STRING = Set.of("String");
+
+    /**
+     * New rule visiting method declarations.
+     */
+    public ProhibitPublicStaticMethodsRule() {
+        super(ASTMethodDeclaration.class);
+    }
+
+    @Override
+    public Object visit(final ASTMethodDeclaration node, final Object data) {
+        if (node.isStatic()
+            && node.getModifiers().getEffectiveModifiers().contains(JModifier.PUBLIC)
+            && !ProhibitPublicStaticMethodsRule.main(node)
+            && !ProhibitPublicStaticMethodsRule.annotated(node)) {
+            this.asCtx(data).addViolation(node);
+        }
+        return null;
+    }
+
+    private static boolean main(final ASTMethodDeclaration node) {
+        return "main".equals(node.getName())
+            && JavaNodes.child(node, ASTVoidType.class) != null
+            && ProhibitPublicStaticMethodsRule.takesStrings(JavaNodes.child(node, ASTFormalParameters.class));
+    }
+
+    private static boolean takesStrings(final ASTFormalParameters parameters) {
+        boolean found = false;
+        for (int index = 0; parameters != null && index < parameters.getNumChildren() && !found; ++index) {
+            final JavaNode parameter = parameters.getChild(index);
+            if (parameter instanceof ASTFormalParameter) {
+                final ASTArrayType type = JavaNodes.child(parameter, ASTArrayType.class);
+                found = type != null && JavaNodes.hasClassType(type, ProhibitPublicStaticMethodsRule.STRING);
+            }
+        }
+        return found;
+    }
+
+    private static boolean annotated(final ASTMethodDeclaration node) {
+        final ASTModifierList modifiers = JavaNodes.child(node, ASTModifierList.class);
+        boolean found = false;
+        for (int index = 0; modifiers != null && index < modifiers.getNumChildren() && !found; ++index) {
+            found = modifiers.getChild(index) instanceof ASTAnnotation
+                && ProhibitPublicStaticMethodsRule.ANNOTATIONS.contains(
+                    ((ASTAnnotation) modifiers.getChild(index)).getSimpleName()
+                );
+        }
+        return found;
+    }
+}
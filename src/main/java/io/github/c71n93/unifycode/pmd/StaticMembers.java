@@ -0,0 +1,70 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.util.Set;
+import net.sourceforge.pmd.lang.java.ast.ASTClassBody;
+import net.sourceforge.pmd.lang.java.ast.ASTClassDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTFieldDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTMethodDeclaration;
+import net.sourceforge.pmd.lang.java.ast.ASTVariableDeclarator;
+import net.sourceforge.pmd.lang.java.ast.ASTVariableId;
+import net.sourceforge.pmd.lang.java.ast.JavaNode;
+
+/**
+ * Names of the static members a class declares.
+ */
+final class StaticMembers {
+    /**
+     * Utility class.
+     */
+    private StaticMembers() {
+    }
+
+    /**
+     * Adds the names of the static fields declared anywhere inside a class, nested classes included.
+     *
+     * @param node class declaration or any node inside it.
+     * @param fields field names.
+     */
+    /* default */ static void fields(final JavaNode node, final Set<String> fields) {
+        for (int index = 0; index < node.getNumChildren(); ++index) {
+            final JavaNode child = node.getChild(index);
+            if (child instanceof ASTFieldDeclaration && ((ASTFieldDeclaration) child).isStatic()) {
+                StaticMembers.fieldNames(child, fields);
+            }
+            StaticMembers.fields(child, fields);
+        }
+    }
+
+    /**
+     * Adds the names of the static methods a class declares in its own body.
+     *
+     * @param node class declaration.
+     * @param methods method names.
+     */
+    /* default */ static void methods(final ASTClassDeclaration node, final Set<String> methods) {
+        final ASTClassBody body = JavaNodes.child(node, ASTClassBody.class);
+        for (int index = 0; body != null && index < body.getNumChildren(); ++index) {
+            if (body.getChild(index) instanceof ASTMethodDeclaration
+                && ((ASTMethodDeclaration) body.getChild(index)).isStatic()) {
+                methods.add(((ASTMethodDeclaration) body.getChild(index)).getName());
+            }
+        }
+    }
+
+    /**
+     * Adds the names of the variables a field declaration declares.
+     *
+     * @param field field declaration.
+     * @param fields field names.
+     */
+    /* default */ static void fieldNames(final JavaNode field, final Set<String> fields) {
+        for (int index = 0; index < field.getNumChildren(); ++index) {
+            if (field.getChild(index) instanceof ASTVariableDeclarator) {
+                final ASTVariableId name = JavaNodes.child(field.getChild(index), ASTVariableId.class);
+                if (name != null) {
+                    fields.add(name.getName());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Custom PMD rules of the bundled ruleset. They run on the PMD classpath, not in Gradle.
+ */
+package io.github.c71n93.unifycode.pmd;
@@ -1,19 +1,39 @@
 package io.github.c71n93.unifycode.gradle;
 
+import com.diffplug.gradle.spotless.SpotlessExtension;
 import io.github.c71n93.unifycode.gradle.extension.UnifycodeExtension;
+import io.github.c71n93.unifycode.gradle.tool.BaselineCheckTask;
+import io.github.c71n93.unifycode.gradle.tool.BaselineTask;
+import io.github.c71n93.unifycode.gradle.tool.DuplicatesTask;
+import io.github.c71n93.unifycode.gradle.tool.ExtractConfigTask;
+import io.github.c71n93.unifycode.gradle.tool.SarifReportTask;
 import java.nio.file.Files;
+import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.gradle.api.Action;
+import org.gradle.api.Describable;
+import org.gradle.api.GradleException;
 import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.internal.project.ProjectInternal;
+import org.gradle.api.plugins.quality.Checkstyle;
 import org.gradle.api.plugins.quality.CheckstyleExtension;
+import org.gradle.api.plugins.quality.Pmd;
 import org.gradle.api.plugins.quality.PmdExtension;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
+import org.gradle.api.tasks.SourceTask;
 import org.gradle.testfixtures.ProjectBuilder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Unit tests for the Unifycode Gradle plugin.
@@ -29,11 +49,37 @@ final class UnifycodeGradlePluginTest {
      */
     private static final String UNIFYCODE_CHECK = "unifycodeCheck";
 
+    /**
+     * Duplicate code detection task name.
+     */
+    private static final String DUPLICATES = "unifycodeDuplicates";
+
+    /**
+     * Baseline check task name.
+     */
+    private static final String BASELINE_CHECK = "unifycodeBaselineCheck";
+
+    /**
+     * SARIF report task name.
+     */
+    private static final String REPORT = "unifycodeReport";
+
+    /**
+     * Configuration extraction task name.
+     */
+    private static final String EXTRACT = "unifycodeExtractConfig";
+
     /**
      * Java Gradle plugin id.
      */
     private static final String JAVA_PLUGIN = "java";
 
+    /**
+     * Temporary project directory.
+     */
+    @TempDir
+    private Path projectDir;
+
     @Test
     void applyCreatesExtension() {
         final Project project = ProjectBuilder.builder().build();
@@ -93,8 +139,9 @@ final class UnifycodeGradlePluginTest {
     }
 
     @Test
-    void applyBeforeJavaConfiguresToolsAfterEvaluation() {
-        final Project project = ProjectBuilder.builder().build();
+    void applyBeforeJavaConfiguresToolsWhenJavaPluginAppears() throws IOException {
+        this.mainSource();
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
         new UnifycodeGradlePlugin().apply(project);
         project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
         this.evaluate(project);
@@ -131,6 +178,36 @@ final class UnifycodeGradlePluginTest {
         );
     }
 
+    @Test
+    void unifycodeCheckSkipsSourceSetsWithoutJavaSources() throws IOException {
+        final Project empty = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(empty);
+        empty.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Set<String> none = this.dependencies(this.task(empty, UnifycodeGradlePluginTest.UNIFYCODE_CHECK));
+        Assertions.assertTrue(
+            Arrays.asList("checkstyleMain", "checkstyleTest", "pmdMain", "pmdTest", "spotlessCheck").stream()
+                .noneMatch(none::contains),
+            () -> "Expected no analysis without Java sources, got: " + none
+        );
+        this.mainSource();
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Set<String> dependencies = this.dependencies(
+            this.task(project, UnifycodeGradlePluginTest.UNIFYCODE_CHECK)
+        );
+        Assertions.assertTrue(
+            dependencies.containsAll(
+                Arrays.asList("checkstyleMain", "pmdMain", "spotlessCheck", "unifycodeGeneratedLines")
+            ),
+            "Expected analysis of the main source set, and the line checks that belong to no source set."
+        );
+        Assertions.assertFalse(
+            dependencies.contains("checkstyleTest") || dependencies.contains("pmdTest"),
+            "Expected no analysis of the empty test source set."
+        );
+    }
+
     @Test
     void appliesConfiguredStrictnessAfterJavaPluginAppears() {
         final Project project = ProjectBuilder.builder().build();
@@ -141,37 +218,580 @@ final class UnifycodeGradlePluginTest {
         project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
         this.evaluate(project);
         Assertions.assertTrue(
-            project.getExtensions().getByType(CheckstyleExtension.class).isIgnoreFailures(),
+            project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain").getIgnoreFailures(),
             "Expected non-strict Checkstyle to ignore failures."
         );
         Assertions.assertTrue(
-            project.getExtensions().getByType(PmdExtension.class).isIgnoreFailures(),
+            project.getTasks().withType(Pmd.class).getByName("pmdMain").getIgnoreFailures(),
             "Expected non-strict PMD to ignore failures."
         );
     }
 
     @Test
-    void applyCopiesExpectedConfigFilesForJavaProject() {
+    void sourceSetPoliciesOverrideToolPolicies() throws IOException {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        extension.checkstyle(policy -> policy.sourceSet("test", set -> set.getStrict().set(false)));
+        extension.pmd(policy -> policy.getExcludes().add("src/*/java/generated/**"));
+        extension.pmd(policy -> policy.sourceSet("test", set -> set.getExcludes().add("**/Slow*.java")));
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        for (final String file : List.of(
+            "main/java/App.java",
+            "main/java/generated/Model.java",
+            "test/java/AppTest.java",
+            "test/java/SlowTest.java"
+        )) {
+            final Path source = this.projectDir.resolve("src").resolve(file);
+            Files.createDirectories(source.getParent());
+            Files.writeString(source, "final class Source {\n}\n");
+        }
+        this.evaluate(project);
+        final Checkstyle checkstyle = project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain");
+        Assertions.assertFalse(checkstyle.getIgnoreFailures(), "Expected main sources to keep the strict tool policy.");
+        Assertions.assertTrue(
+            project.getTasks().withType(Checkstyle.class).getByName("checkstyleTest").getIgnoreFailures(),
+            "Expected test sources to be report-only."
+        );
+        Assertions.assertEquals(
+            Set.of("App.java"),
+            UnifycodeGradlePluginTest.sources(project.getTasks().withType(Pmd.class).getByName("pmdMain")),
+            "Expected PMD to skip excluded main sources."
+        );
+        Assertions.assertEquals(
+            Set.of("AppTest.java"),
+            UnifycodeGradlePluginTest.sources(project.getTasks().withType(Pmd.class).getByName("pmdTest")),
+            "Expected PMD to skip excluded test sources."
+        );
+        Assertions.assertEquals(
+            Set.of("App.java", "Model.java"),
+            UnifycodeGradlePluginTest.sources(checkstyle),
+            "Expected PMD excludes to leave Checkstyle sources alone."
+        );
+    }
+
+    @Test
+    void sourceSetPoliciesApplyToTasksCreatedBeforeThem() throws IOException {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Checkstyle checkstyle = project.getTasks().withType(Checkstyle.class).getByName("checkstyleTest");
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        extension.checkstyle(
+            policy -> policy.sourceSet(
+                "test",
+                set -> {
+                    set.getStrict().set(false);
+                    set.getExcludes().add("**/Slow*.java");
+                }
+            )
+        );
+        for (final String file : List.of("AppTest.java", "SlowTest.java")) {
+            final Path source = this.projectDir.resolve("src/test/java").resolve(file);
+            Files.createDirectories(source.getParent());
+            Files.writeString(source, "final class Source {\n}\n");
+        }
+        this.evaluate(project);
+        Assertions.assertTrue(checkstyle.getIgnoreFailures(), "Expected the later source set policy to apply.");
+        Assertions.assertEquals(
+            Set.of("AppTest.java"),
+            UnifycodeGradlePluginTest.sources(checkstyle),
+            "Expected the later source set globs to apply."
+        );
+    }
+
+    @Test
+    void pmdIncrementalAnalysisFollowsPolicy() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Pmd task = project.getTasks().withType(Pmd.class).getByName("pmdMain");
+        Assertions.assertTrue(task.getIncrementalAnalysis().get(), "Expected PMD to be incremental by default.");
+        extension.pmd(policy -> policy.getIncremental().set(false));
+        Assertions.assertFalse(
+            task.getIncrementalAnalysis().get(),
+            "Expected PMD incremental analysis to follow the policy."
+        );
+    }
+
+    @Test
+    void pmdThreadsFollowPolicy() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Pmd task = project.getTasks().withType(Pmd.class).getByName("pmdMain");
+        Assertions.assertEquals(1, task.getThreads().get(), "Expected PMD to use one thread by default.");
+        extension.pmd(policy -> policy.getThreads().set(8));
+        Assertions.assertEquals(8, task.getThreads().get(), "Expected PMD threads to follow the policy.");
+    }
+
+    @Test
+    void pmdTypeResolutionFollowsPolicy() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final SourceSet main = project.getExtensions().getByType(SourceSetContainer.class).getByName("main");
+        final Pmd task = project.getTasks().withType(Pmd.class).getByName("pmdMain");
+        Assertions.assertEquals(
+            main.getOutput().getClassesDirs().plus(main.getCompileClasspath()).getFiles(),
+            task.getClasspath().getFiles(),
+            "Expected PMD to resolve types against classes and the compile classpath only."
+        );
+        extension.pmd(policy -> policy.getTypeResolution().set(false));
+        Assertions.assertTrue(
+            task.getClasspath().isEmpty(),
+            "Expected PMD to get no classpath without type resolution."
+        );
+    }
+
+    @Test
+    void analysisMaxHeapSizeFollowsPolicies() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        extension.checkstyle(policy -> policy.getMaxHeapSize().set("512m"));
+        extension.pmd(policy -> policy.getMaxHeapSize().set("2g"));
+        for (final Checkstyle task : project.getTasks().withType(Checkstyle.class)) {
+            Assertions.assertEquals("512m", task.getMaxHeapSize().get(), "Expected Checkstyle heap to follow policy.");
+        }
+        for (final Pmd task : project.getTasks().withType(Pmd.class)) {
+            Assertions.assertEquals("2g", task.getMaxHeapSize().get(), "Expected PMD heap to follow policy.");
+        }
+    }
+
+    @Test
+    void toolVersionsFollowPolicies() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        extension.checkstyle(policy -> policy.getToolVersion().set("10.26.1"));
+        extension.pmd(policy -> policy.getToolVersion().set("7.16.0"));
+        Assertions.assertEquals(
+            Set.of("checkstyle:10.26.1"),
+            this.toolModules(project, "unifycodeCheckstyle"),
+            "Expected Checkstyle to follow the policy version."
+        );
+        Assertions.assertEquals(
+            Set.of("pmd-java:7.16.0", "pmd-ant:7.16.0"),
+            this.toolModules(project, "unifycodePmd"),
+            "Expected PMD to follow the policy version."
+        );
+    }
+
+    @Test
+    void pmdVersionsOtherThanSevenAreRejected() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        extension.pmd(policy -> policy.getToolVersion().set("6.55.0"));
+        final GradleException failure = Assertions.assertThrows(
+            GradleException.class,
+            () -> this.toolModules(project, "unifycodePmd")
+        );
+        Assertions.assertTrue(
+            failure.getMessage().contains("PMD 6.55.0") && failure.getMessage().contains("PMD 7"),
+            () -> "Expected the failure to name both PMD versions, got: " + failure.getMessage()
+        );
+    }
+
+    @Test
+    void toolVersionsDefaultToExtensions() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        Assertions.assertEquals(
+            "10.24.0",
+            extension.getCheckstyle().getToolVersion().get(),
+            "Expected the tested Checkstyle version by default."
+        );
+        project.getExtensions().getByType(CheckstyleExtension.class).setToolVersion("10.26.1");
+        project.getExtensions().getByType(PmdExtension.class).setToolVersion("7.16.0");
+        Assertions.assertEquals(
+            Set.of("checkstyle:10.26.1"),
+            this.toolModules(project, "unifycodeCheckstyle"),
+            "Expected Checkstyle to follow the extension version."
+        );
+        Assertions.assertEquals(
+            Set.of("pmd-java:7.16.0", "pmd-ant:7.16.0"),
+            this.toolModules(project, "unifycodePmd"),
+            "Expected PMD to follow the extension version."
+        );
+    }
+
+    @Test
+    void checkstyleTasksUseSeparateResultCaches() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final String main = this.checkstyleCache(project, "checkstyleMain");
+        final String test = this.checkstyleCache(project, "checkstyleTest");
+        Assertions.assertTrue(
+            main.startsWith("checkstyleMain-") && main.endsWith(".cache"),
+            "Expected Checkstyle cache to be named after its task."
+        );
+        Assertions.assertNotEquals(main, test, "Expected Checkstyle tasks to keep separate caches.");
+    }
+
+    @Test
+    void disabledCheckstyleCacheIsDeletedBeforeEachRun() throws IOException {
+        for (final boolean enabled : new boolean[] {true, false}) {
+            final Project project = ProjectBuilder.builder().build();
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+            project.getExtensions().getByType(UnifycodeExtension.class).getCheckstyle().getCache().set(enabled);
+            final Checkstyle task = project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain");
+            final Path cache = project.getLayout().getBuildDirectory()
+                .file("unifycode/checkstyle/" + this.checkstyleCache(project, "checkstyleMain"))
+                .get().getAsFile().toPath();
+            Files.createDirectories(cache.getParent());
+            Files.writeString(cache, "cached");
+            for (final Action<? super Task> action : task.getActions()) {
+                if (((Describable) action).getDisplayName().contains("Reset Checkstyle result cache")) {
+                    action.execute(task);
+                }
+            }
+            Assertions.assertEquals(
+                enabled,
+                Files.exists(cache),
+                () -> "Expected the Checkstyle cache to be kept only while caching is enabled, enabled: " + enabled
+            );
+        }
+    }
+
+    @Test
+    void checkstyleInputsDoNotDependOnProjectLocation() {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        for (final Checkstyle task : project.getTasks().withType(Checkstyle.class)) {
+            for (final Object value : task.getConfigProperties().values()) {
+                Assertions.assertFalse(
+                    String.valueOf(value).contains(this.projectDir.getFileName().toString()),
+                    () -> "Expected relocatable Checkstyle properties, got: " + value
+                );
+            }
+        }
+    }
+
+    @Test
+    void ratchetNarrowsAnalysisToChangedFiles() throws IOException, InterruptedException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java/demo"));
+        Files.writeString(sources.resolve("Kept.java"), "package demo;\n");
+        Files.writeString(sources.resolve("Changed.java"), "package demo;\n");
+        this.git("init", "--quiet");
+        this.git("add", ".");
+        this.git(
+            "-c", "user.name=unifycode", "-c", "user.email=unifycode@example.com", "commit", "--quiet", "-m", "base"
+        );
+        Files.writeString(sources.resolve("Changed.java"), "package demo;\n\nfinal class Changed {\n}\n");
+        Files.writeString(sources.resolve("Added.java"), "package demo;\n");
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final Checkstyle checkstyle = project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain");
+        final Pmd pmd = project.getTasks().withType(Pmd.class).getByName("pmdMain");
+        Assertions.assertEquals(3, checkstyle.getSource().getFiles().size(), "Expected full analysis by default.");
+        extension.getRatchetFrom().set("HEAD");
+        final Set<String> expected = Set.of("Added.java", "Changed.java");
+        Assertions.assertEquals(
+            expected,
+            this.names(checkstyle.getSource().getFiles()),
+            "Expected Checkstyle to analyze changed files only."
+        );
+        Assertions.assertEquals(
+            expected,
+            this.names(pmd.getSource().getFiles()),
+            "Expected PMD to analyze changed files only."
+        );
+    }
+
+    @Test
+    void ratchetFromUnknownRefNamesRefAndGitError() throws IOException, InterruptedException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java"));
+        Files.writeString(sources.resolve("App.java"), "final class App {\n}\n");
+        this.git("init", "--quiet");
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        project.getExtensions().getByType(UnifycodeExtension.class).getRatchetFrom().set("missing-ref");
+        final Checkstyle checkstyle = project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain");
+        final Throwable failure = Assertions.assertThrows(Exception.class, () -> checkstyle.getSource().getFiles());
+        final List<String> messages = new ArrayList<>();
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            messages.add(cause.getMessage());
+        }
+        Assertions.assertTrue(
+            messages.stream().anyMatch(
+                message -> message.contains("ratchetFrom 'missing-ref'") && message.contains("unknown revision")
+            ),
+            () -> "Expected the failure to name the ref and git's error, got: " + messages
+        );
+    }
+
+    @Test
+    void spotlessRatchetFollowsUnifycodeRatchet() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        project.getExtensions().getByType(UnifycodeExtension.class).getRatchetFrom().set("origin/main");
+        project.getTasks().getByName("spotlessJava");
+        Assertions.assertEquals(
+            "origin/main",
+            project.getExtensions().getByType(SpotlessExtension.class).getRatchetFrom(),
+            "Expected Spotless to ratchet from the Unifycode ref."
+        );
+    }
+
+    @Test
+    void ratchetedSpotlessRunRecordsNoFormattedSources() throws IOException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java/demo"));
+        Files.writeString(sources.resolve("App.java"), "package demo;\n");
+        final Path index = this.projectDir.resolve("build/unifycode/spotless");
+        for (final String ratchet : Arrays.asList("HEAD", null)) {
+            final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+            project.getExtensions().getByType(UnifycodeExtension.class).getRatchetFrom().set(ratchet);
+            this.evaluate(project);
+            final Task task = project.getTasks().getByName("spotlessJava");
+            task.getActions().get(task.getActions().size() - 1).execute(task);
+            Assertions.assertEquals(
+                ratchet == null,
+                Files.isDirectory(index),
+                () -> "Expected formatted sources to be recorded only without a ratchet, ratchet: " + ratchet
+            );
+        }
+    }
+
+    @Test
+    void profilingIsDisabledByDefault() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        Assertions.assertNull(
+            project.getGradle().getSharedServices().getRegistrations().findByName("unifycodeProfile"),
+            "Expected profiling to be disabled by default."
+        );
+    }
+
+    @Test
+    void duplicateDetectionRunsOnlyWhenEnabled() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        Assertions.assertFalse(
+            this.dependencies(this.task(project, UnifycodeGradlePluginTest.UNIFYCODE_CHECK))
+                .contains(UnifycodeGradlePluginTest.DUPLICATES),
+            "Expected duplicate detection to be disabled by default."
+        );
+        final Project enabled = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(enabled);
+        enabled.getExtensions().getByType(UnifycodeExtension.class).duplicates(
+            policy -> policy.getEnabled().set(true)
+        );
+        enabled.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        Assertions.assertTrue(
+            this.dependencies(this.task(enabled, UnifycodeGradlePluginTest.UNIFYCODE_CHECK))
+                .contains(UnifycodeGradlePluginTest.DUPLICATES),
+            "Expected unifycodeCheck to depend on duplicate detection."
+        );
+        Assertions.assertEquals(10, extension.getDuplicates().getMinLines().get(), "Expected ten-line duplicates.");
+    }
+
+    @Test
+    void duplicateDetectionReadsIndexesOfOtherProjects() {
+        final Project root = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        final Project lib = ProjectBuilder.builder().withParent(root).withName("lib").build();
+        final Project app = ProjectBuilder.builder().withParent(root).withName("app").build();
+        for (final Project project : Arrays.asList(lib, app)) {
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        }
+        final Set<File> indexes = app.getTasks().withType(DuplicatesTask.class)
+            .getByName(UnifycodeGradlePluginTest.DUPLICATES)
+            .getIndexes()
+            .getFiles();
+        Assertions.assertTrue(
+            indexes.contains(lib.getLayout().getBuildDirectory().dir("unifycode/duplicates/index").get().getAsFile()),
+            "Expected app duplicates to read the lib index."
+        );
+        Assertions.assertTrue(
+            indexes.contains(app.getLayout().getBuildDirectory().dir("unifycode/duplicates/index").get().getAsFile()),
+            "Expected app duplicates to read its own index."
+        );
+    }
+
+    @Test
+    void baselineCheckDecidesFailuresOnlyWhenConfigured() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        Assertions.assertFalse(
+            this.dependencies(this.task(project, UnifycodeGradlePluginTest.UNIFYCODE_CHECK))
+                .contains(UnifycodeGradlePluginTest.BASELINE_CHECK),
+            "Expected no baseline check without a baseline file."
+        );
+        final Project baselined = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(baselined);
+        baselined.getExtensions().getByType(UnifycodeExtension.class).getBaseline().set(
+            baselined.file("unifycode-baseline.txt")
+        );
+        baselined.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        this.evaluate(baselined);
+        Assertions.assertTrue(
+            this.dependencies(this.task(baselined, UnifycodeGradlePluginTest.UNIFYCODE_CHECK))
+                .contains(UnifycodeGradlePluginTest.BASELINE_CHECK),
+            "Expected unifycodeCheck to depend on the baseline check."
+        );
+        Assertions.assertTrue(
+            baselined.getTasks().withType(Checkstyle.class).getByName("checkstyleMain").getIgnoreFailures()
+                && baselined.getTasks().withType(Pmd.class).getByName("pmdMain").getIgnoreFailures(),
+            "Expected the baseline check to decide on tool failures."
+        );
+    }
+
+    @Test
+    void baselineIsNotRecordedFromRatchetedSources() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        extension.getBaseline().set(project.file("unifycode-baseline.txt"));
+        extension.getRatchetFrom().set("origin/main");
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final BaselineTask task = project.getTasks().withType(BaselineTask.class).getByName("unifycodeBaseline");
+        final GradleException failure = Assertions.assertThrows(GradleException.class, task::record);
+        Assertions.assertTrue(
+            failure.getMessage().contains("ratchetFrom 'origin/main'"),
+            () -> "Expected the failure to name the ratchet, got: " + failure.getMessage()
+        );
+        Assertions.assertFalse(
+            project.file("unifycode-baseline.txt").exists(),
+            "Expected no baseline from ratcheted sources."
+        );
+    }
+
+    @Test
+    void baselineCheckFailsOnlyForStrictSourceSets() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        final UnifycodeExtension extension = project.getExtensions().getByType(UnifycodeExtension.class);
+        extension.getBaseline().set(project.file("unifycode-baseline.txt"));
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        extension.pmd(policy -> policy.sourceSet("test", set -> set.getStrict().set(false)));
+        this.evaluate(project);
+        Assertions.assertEquals(
+            Set.of(
+                project.getTasks().withType(Pmd.class).getByName("pmdTest").getReports().getXml()
+                    .getOutputLocation().get().getAsFile()
+            ),
+            project.getTasks().withType(BaselineCheckTask.class).getByName(UnifycodeGradlePluginTest.BASELINE_CHECK)
+                .getLenientReports()
+                .getFiles(),
+            "Expected only the non-strict source set to report without failing the baseline check."
+        );
+    }
+
+    @Test
+    void sarifReportFinalizesQualityChecks() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        final List<String> finalized = Arrays.asList(
+            UnifycodeGradlePluginTest.UNIFYCODE_CHECK,
+            "checkstyleMain",
+            "pmdMain"
+        );
+        for (final String name : finalized) {
+            Assertions.assertTrue(
+                this.task(project, name).getFinalizedBy().getDependencies(this.task(project, name)).contains(
+                    this.task(project, UnifycodeGradlePluginTest.REPORT)
+                ),
+                () -> "Expected " + name + " to be finalized by unifycodeReport."
+            );
+        }
+        Assertions.assertTrue(
+            this.names(
+                project.getTasks().withType(SarifReportTask.class).getByName(UnifycodeGradlePluginTest.REPORT)
+                    .getCheckstyleReports()
+                    .getFiles()
+            ).containsAll(Arrays.asList("main.xml", "test.xml")),
+            "Expected Checkstyle XML reports to be merged."
+        );
+    }
+
+    @Test
+    void sarifReportIncludesChildProjectReports() {
+        final Project root = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        final Project lib = ProjectBuilder.builder().withParent(root).withName("lib").build();
+        for (final Project project : Arrays.asList(root, lib)) {
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        }
+        Assertions.assertEquals(
+            Set.of(lib.getLayout().getBuildDirectory().file("reports/unifycode/unifycode.sarif").get().getAsFile()),
+            root.getTasks().withType(SarifReportTask.class).getByName(UnifycodeGradlePluginTest.REPORT)
+                .getChildReports()
+                .getFiles(),
+            "Expected the root report to merge the lib report."
+        );
+    }
+
+    @Test
+    void applyDoesNotCopyConfigFilesDuringConfiguration() {
+        final Project project = ProjectBuilder.builder().build();
+        project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
+        new UnifycodeGradlePlugin().apply(project);
+        this.evaluate(project);
+        Assertions.assertFalse(
+            Files.exists(this.unifycode(project)),
+            "Expected config files not to be copied during configuration."
+        );
+        Assertions.assertTrue(
+            this.dependencies(this.task(project, "checkstyleMain")).contains(UnifycodeGradlePluginTest.EXTRACT),
+            "Expected checkstyleMain to depend on unifycodeExtractConfig."
+        );
+        Assertions.assertTrue(
+            this.dependencies(this.task(project, "pmdMain")).contains(UnifycodeGradlePluginTest.EXTRACT),
+            "Expected pmdMain to depend on unifycodeExtractConfig."
+        );
+    }
+
+    @Test
+    void extractConfigTaskCopiesExpectedConfigFiles() {
         final Project project = ProjectBuilder.builder().build();
         project.getPluginManager().apply(UnifycodeGradlePluginTest.JAVA_PLUGIN);
         new UnifycodeGradlePlugin().apply(project);
         this.evaluate(project);
-        final Path unifycode = project.getLayout().getBuildDirectory().getAsFile().get().toPath().resolve("unifycode");
+        ((ExtractConfigTask) this.task(project, UnifycodeGradlePluginTest.EXTRACT)).extract();
+        final Path config = this.unifycode(project).resolve("config");
         Assertions.assertTrue(
-            Files.exists(unifycode.resolve("checkstyle.xml")),
+            Files.exists(config.resolve("checkstyle.xml")),
             "Expected checkstyle.xml to be copied."
         );
         Assertions.assertTrue(
-            Files.exists(unifycode.resolve("checkstyle-suppressions.xml")),
+            Files.exists(config.resolve("checkstyle-suppressions.xml")),
             "Expected checkstyle-suppressions.xml to be copied."
         );
-        Assertions.assertTrue(Files.exists(unifycode.resolve("pmd.xml")), "Expected pmd.xml to be copied.");
+        Assertions.assertTrue(Files.exists(config.resolve("pmd.xml")), "Expected pmd.xml to be copied.");
         Assertions.assertTrue(
-            Files.exists(unifycode.resolve("eclipse-java-formatter.xml")),
+            Files.exists(config.resolve("eclipse-java-formatter.xml")),
             "Expected eclipse-java-formatter.xml to be copied."
         );
     }
 
+    private Path unifycode(final Project project) {
+        return project.getLayout().getBuildDirectory().getAsFile().get().toPath().resolve("unifycode");
+    }
+
     private Task task(final Project project, final String name) {
         return project.getTasks().getByName(name);
     }
@@ -184,7 +804,43 @@ final class UnifycodeGradlePluginTest {
             .collect(Collectors.toSet());
     }
 
+    private String checkstyleCache(final Project project, final String name) {
+        return String.valueOf(
+            project.getTasks().withType(Checkstyle.class).getByName(name).getConfigProperties()
+                .get("unifycode.checkstyle.cache")
+        );
+    }
+
+    private Set<String> names(final Set<File> files) {
+        return files.stream().map(File::getName).collect(Collectors.toSet());
+    }
+
+    private void git(final String... arguments) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>(Arrays.asList(arguments));
+        command.add(0, "git");
+        final Process process = new ProcessBuilder(command)
+            .directory(this.projectDir.toFile())
+            .inheritIO()
+            .start();
+        Assertions.assertEquals(0, process.waitFor(), () -> "Expected git command to succeed: " + command);
+    }
+
+    private Set<String> toolModules(final Project project, final String configuration) {
+        return project.getConfigurations().getByName(configuration).getDependencies().stream()
+            .map(dependency -> dependency.getName() + ":" + dependency.getVersion())
+            .collect(Collectors.toSet());
+    }
+
+    private void mainSource() throws IOException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java/demo"));
+        Files.writeString(sources.resolve("App.java"), "package demo;\n");
+    }
+
     private void evaluate(final Project project) {
         ((ProjectInternal) project).evaluate();
     }
+
+    private static Set<String> sources(final SourceTask task) {
+        return task.getSource().getFiles().stream().map(File::getName).collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,65 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.UnifycodeGradlePlugin;
+import org.gradle.api.GradleException;
+import org.gradle.api.Project;
+import org.gradle.api.services.BuildServiceRegistration;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the build-wide analysis pool.
+ */
+final class AnalysisPoolToolTest {
+    /**
+     * Analysis service name.
+     */
+    private static final String SERVICE = "unifycodeAnalysis";
+
+    @Test
+    void analysisIsNotLimitedByDefault() {
+        final Project project = ProjectBuilder.builder().build();
+        new UnifycodeGradlePlugin().apply(project);
+        project.getPluginManager().apply("java");
+        Assertions.assertNull(
+            project.getGradle().getSharedServices().getRegistrations().findByName(AnalysisPoolToolTest.SERVICE),
+            "Expected no analysis pool without the analysisWorkers property."
+        );
+    }
+
+    @Test
+    void projectsShareOneAnalysisPool() {
+        final Project root = ProjectBuilder.builder().build();
+        final Project lib = ProjectBuilder.builder().withParent(root).withName("lib").build();
+        for (final Project project : new Project[] {root, lib}) {
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply("java");
+            new AnalysisPoolTool(new ToolProject(project), project.provider(() -> "2")).configure();
+        }
+        final BuildServiceRegistration<?, ?> pool = root.getGradle().getSharedServices().getRegistrations()
+            .getByName(AnalysisPoolToolTest.SERVICE);
+        Assertions.assertEquals(2, pool.getMaxParallelUsages().get(), "Expected two analysis slots.");
+        Assertions.assertSame(
+            pool,
+            lib.getGradle().getSharedServices().getRegistrations().getByName(AnalysisPoolToolTest.SERVICE),
+            "Expected subprojects to share the root analysis pool."
+        );
+    }
+
+    @Test
+    void invalidWorkerCountsNameTheProperty() {
+        for (final String value : new String[] {"many", "0", "-2"}) {
+            final Project project = ProjectBuilder.builder().build();
+            final GradleException error = Assertions.assertThrows(
+                GradleException.class,
+                new AnalysisPoolTool(new ToolProject(project), project.provider(() -> value))::configure,
+                "Expected a failure for an invalid analysisWorkers property."
+            );
+            Assertions.assertTrue(
+                error.getMessage().contains("unifycode.analysisWorkers"),
+                () -> "Expected the property name in: " + error.getMessage()
+            );
+        }
+    }
+}
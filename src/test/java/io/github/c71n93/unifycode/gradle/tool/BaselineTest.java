@@ -0,0 +1,79 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for violation fingerprints.
+ */
+final class BaselineTest {
+    /**
+     * Source file path relative to the root project directory.
+     */
+    private static final String SOURCE = "src/main/java/demo/App.java";
+
+    /**
+     * Rule id of the fingerprinted violations.
+     */
+    private static final String RULE = "UnusedPrivateField";
+
+    /**
+     * Temporary root project directory.
+     */
+    @TempDir
+    private Path root;
+
+    @Test
+    void fingerprintSurvivesLineShift() throws IOException {
+        this.source("class App {\n    private int value;\n}\n");
+        final String before = this.fingerprint(2);
+        this.source("// header\n\nclass App {\n        private  int value;\n}\n");
+        Assertions.assertEquals(before, this.fingerprint(4), "Expected a fingerprint independent of line numbers.");
+    }
+
+    @Test
+    void fingerprintFollowsLineContent() throws IOException {
+        this.source("class App {\n    private int value;\n    private int other;\n}\n");
+        Assertions.assertNotEquals(
+            this.fingerprint(2),
+            this.fingerprint(3),
+            "Expected different lines to have different fingerprints."
+        );
+    }
+
+    @Test
+    void indexCountsRepeatedFingerprints() throws IOException {
+        final File baseline = this.root.resolve("baseline.txt").toFile();
+        Files.write(baseline.toPath(), List.of("aa", "bb", "aa", ""), StandardCharsets.UTF_8);
+        Assertions.assertEquals(Map.of("aa", 2, "bb", 1), Baseline.index(baseline), "Expected counted fingerprints.");
+        Assertions.assertTrue(
+            Baseline.index(this.root.resolve("missing.txt").toFile()).isEmpty(),
+            "Expected a missing baseline to be empty."
+        );
+    }
+
+    private void source(final String content) throws IOException {
+        final Path source = this.root.resolve(BaselineTest.SOURCE);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content);
+    }
+
+    private String fingerprint(final int line) throws IOException {
+        final Baseline baseline = new Baseline(this.root);
+        baseline.result(
+            BaselineTest.RULE,
+            "warning",
+            "Avoid unused private fields.",
+            new SarifWriter.Location(BaselineTest.SOURCE, line, 5)
+        );
+        return baseline.fingerprints().get(0);
+    }
+}
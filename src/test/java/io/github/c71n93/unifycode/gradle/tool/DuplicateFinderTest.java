@@ -0,0 +1,136 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for indexed duplicate code detection.
+ */
+final class DuplicateFinderTest {
+    /**
+     * Source duplicated across modules.
+     */
+    private static final List<String> ORIGINAL = Arrays.asList(
+        "package demo;",
+        "final class Ledger {",
+        "    int total(final int[] values) {",
+        "        int sum = 0;",
+        "        for (final int value : values) {",
+        "            sum += value;",
+        "        }",
+        "        return sum;",
+        "    }",
+        "}"
+    );
+
+    /**
+     * Temporary index directory.
+     */
+    @TempDir
+    private Path directory;
+
+    @Test
+    void findsReformattedDuplicateInAnotherModule() {
+        final List<String> copy = Arrays.asList(
+            "package other;",
+            "",
+            "import java.util.List;",
+            "",
+            "/** Copied ledger. */",
+            "final class Ledger {",
+            "    int total(final int[]   values) {",
+            "        // Running sum.",
+            "        int sum = 0;",
+            "        for (final int value : values) {",
+            "            sum += value;",
+            "        }",
+            "        return sum;",
+            "    }",
+            "}"
+        );
+        final List<DuplicateIndex.Entry> entries = DuplicateFinderTest.index(":app", DuplicateFinderTest.ORIGINAL);
+        entries.addAll(DuplicateFinderTest.index(":lib", copy));
+        Assertions.assertEquals(
+            "{:app=[:app Ledger.java:2-10 duplicates :lib Ledger.java:6-15], "
+                + ":lib=[:lib Ledger.java:6-15 duplicates :app Ledger.java:2-10]}",
+            new DuplicateFinder().find(entries).toString(),
+            "Expected one merged duplicate block attributed to both modules."
+        );
+    }
+
+    @Test
+    void ignoresWindowsWithCollidingHashes() {
+        final List<DuplicateIndex.Entry> entries = DuplicateFinderTest.index(":app", DuplicateFinderTest.ORIGINAL);
+        for (final DuplicateIndex.Entry entry : DuplicateFinderTest.index(":lib", DuplicateFinderTest.ORIGINAL)) {
+            final List<String> lines = new ArrayList<>(entry.lines());
+            lines.set(0, lines.get(0) + " // changed");
+            entries.add(
+                new DuplicateIndex.Entry(
+                    entry.module(),
+                    entry.path(),
+                    entry.hash(),
+                    entry.position(),
+                    entry.start(),
+                    entry.end(),
+                    lines
+                )
+            );
+        }
+        Assertions.assertTrue(
+            new DuplicateFinder().find(entries).isEmpty(),
+            "Expected windows with equal hashes but different lines not to be duplicates."
+        );
+    }
+
+    @Test
+    void ignoresBlocksShorterThanWindow() {
+        final List<DuplicateIndex.Entry> entries = DuplicateFinderTest.index(":app", DuplicateFinderTest.ORIGINAL);
+        entries.addAll(DuplicateFinderTest.index(":lib", DuplicateFinderTest.ORIGINAL.subList(0, 4)));
+        Assertions.assertTrue(
+            new DuplicateFinder().find(entries).isEmpty(),
+            "Expected no duplicate below the window size."
+        );
+    }
+
+    @Test
+    void indexKeepsNormalizedLinesOfWindows() {
+        final DuplicateWindows windows = new DuplicateWindows(4);
+        final List<DuplicateWindows.Line> lines = windows.lines(DuplicateFinderTest.ORIGINAL);
+        final DuplicateIndex index = new DuplicateIndex(this.directory.resolve("Ledger.java.idx").toFile());
+        index.write(":app", "Ledger.java", 4, lines, windows.of(lines));
+        Assertions.assertEquals(
+            DuplicateFinderTest.index(":app", DuplicateFinderTest.ORIGINAL),
+            index.read(),
+            "Expected the index to read back its windows with their normalized lines."
+        );
+    }
+
+    private static List<DuplicateIndex.Entry> index(final String module, final List<String> lines) {
+        final DuplicateWindows windows = new DuplicateWindows(4);
+        final List<DuplicateWindows.Line> normalized = windows.lines(lines);
+        final List<DuplicateIndex.Entry> entries = new ArrayList<>();
+        for (final DuplicateWindows.Window window : windows.of(normalized)) {
+            final List<String> text = new ArrayList<>(4);
+            for (final DuplicateWindows.Line line : normalized.subList(window.position(), window.position() + 4)) {
+                text.add(line.text());
+            }
+            entries.add(
+                new DuplicateIndex.Entry(
+                    module,
+                    "Ledger.java",
+                    window.hash(),
+                    window.position(),
+                    window.start(),
+                    window.end(),
+                    text
+                )
+            );
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.gradle.api.Project;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the persisted format index.
+ */
+final class FormatIndexTest {
+    /**
+     * Temporary project directory.
+     */
+    @TempDir
+    private Path root;
+
+    @Test
+    void skipsSourcesFormattedWithTheirCurrentContent() throws IOException {
+        final File formatted = this.source("src/main/java/demo/App.java", "class App {\n}\n");
+        final File unformatted = this.source("src/main/java/demo/Other.java", "class  Other {}\n");
+        final File output = this.root.resolve("build/spotless-clean/spotlessJava").toFile();
+        Files.createDirectories(output.toPath().resolve("src/main/java/demo"));
+        Files.writeString(output.toPath().resolve("src/main/java/demo/Other.java"), "class Other {\n}\n");
+        this.index().record(List.of(formatted, unformatted), output);
+        final FormatIndex index = this.index();
+        Assertions.assertFalse(index.isSatisfiedBy(formatted), "Expected the formatted source to be skipped.");
+        Assertions.assertTrue(index.isSatisfiedBy(unformatted), "Expected the unformatted source to be formatted.");
+        Files.writeString(formatted.toPath(), "class App {\n    int value;\n}\n");
+        Assertions.assertTrue(this.index().isSatisfiedBy(formatted), "Expected a changed source to be formatted.");
+    }
+
+    @Test
+    void reusesSourceHashesWhileLengthAndModificationTimeMatch() throws IOException {
+        final File source = this.source("src/main/java/demo/App.java", "class App {\n}\n");
+        final File output = this.root.resolve("build/spotless-clean/spotlessJava").toFile();
+        final FormatIndex index = this.index();
+        index.record(List.of(source), output);
+        final FileTime modified = Files.getLastModifiedTime(source.toPath());
+        Files.writeString(source.toPath(), "class Abc {\n}\n");
+        Files.setLastModifiedTime(source.toPath(), modified);
+        Assertions.assertFalse(index.isSatisfiedBy(source), "Expected the hash of this build to be reused.");
+        Files.setLastModifiedTime(source.toPath(), FileTime.fromMillis(modified.toMillis() + 2000));
+        Assertions.assertTrue(index.isSatisfiedBy(source), "Expected a touched source to be hashed again.");
+    }
+
+    private FormatIndex index() {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.root.toFile()).build();
+        return new FormatIndex(
+            project.getLayout().getBuildDirectory().file("unifycode/spotless/java.idx"),
+            this.root.toFile()
+        );
+    }
+
+    private File source(final String path, final String content) throws IOException {
+        final Path source = this.root.resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content);
+        return source.toFile();
+    }
+}
@@ -0,0 +1,258 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.extension.GeneratedPolicy;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.internal.TaskInternal;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.api.tasks.SourceTask;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+
+/**
+ * Unit tests for generated source handling.
+ */
+final class GeneratedToolTest {
+    /**
+     * Checker modules the line checks leave out: the syntax tree checks, and file checks that only make sense for
+     * hand-written sources, such as package Javadoc, translations and the file length with its suppression filter.
+     */
+    private static final Set<String> SKIPPED = Set.of(
+        "TreeWalker",
+        "JavadocPackage",
+        "Translation",
+        "FileLength",
+        "SuppressWithPlainTextCommentFilter"
+    );
+
+    /**
+     * Temporary project directory.
+     */
+    @TempDir
+    private Path projectDir;
+
+    @Test
+    void generatedSourcesGetOnlyLineChecks() throws IOException {
+        final Project project = this.project();
+        this.source("App.java", "final class App {", "}");
+        this.source("Generated.java", "// DO NOT EDIT", "final class Generated {", "}");
+        this.source(
+            "Large.java",
+            "final class Large {",
+            "    private final String text = \"" + "x".repeat(64) + "\";",
+            "}"
+        );
+        final GeneratedPolicy policy = project.getObjects().newInstance(GeneratedPolicy.class);
+        policy.getEnabled().set(true);
+        policy.getMaxFileSize().set(64L);
+        new GeneratedTool(new ToolProject(project), policy).configure();
+        Assertions.assertEquals(
+            Set.of("App.java"),
+            GeneratedToolTest.names(project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain")),
+            "Expected Checkstyle to skip generated and oversized files."
+        );
+        Assertions.assertEquals(
+            Set.of("App.java"),
+            GeneratedToolTest.names(project.getTasks().withType(Pmd.class).getByName("pmdMain")),
+            "Expected PMD to skip generated and oversized files."
+        );
+        final Checkstyle lines = project.getTasks().withType(Checkstyle.class).getByName(GeneratedTool.LINES);
+        Assertions.assertEquals(
+            Set.of("Generated.java", "Large.java"),
+            GeneratedToolTest.names(lines),
+            "Expected the line checks to cover generated and oversized files."
+        );
+        Assertions.assertTrue(
+            GeneratedToolTest.runs(lines),
+            "Expected the line checks to run by default."
+        );
+    }
+
+    @Test
+    void generatedSourcesAreAnalyzedUnlessEnabled() throws IOException {
+        final Project project = this.project();
+        this.source("App.java", "final class App {", "}");
+        this.source("Generated.java", "// DO NOT EDIT", "final class Generated {", "}");
+        new GeneratedTool(
+            new ToolProject(project),
+            project.getObjects().newInstance(GeneratedPolicy.class)
+        ).configure();
+        Assertions.assertEquals(
+            Set.of("App.java", "Generated.java"),
+            GeneratedToolTest.names(project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain")),
+            "Expected Checkstyle to keep generated files by default."
+        );
+        Assertions.assertEquals(
+            Set.of("App.java", "Generated.java"),
+            GeneratedToolTest.names(project.getTasks().withType(Pmd.class).getByName("pmdMain")),
+            "Expected PMD to keep generated files by default."
+        );
+        Assertions.assertEquals(
+            Set.of(),
+            GeneratedToolTest.names(project.getTasks().withType(Checkstyle.class).getByName(GeneratedTool.LINES)),
+            "Expected no line checks by default."
+        );
+    }
+
+    @Test
+    void lineChecksFollowPolicyWhenTheTaskRuns() {
+        final Project project = this.project();
+        final GeneratedPolicy policy = project.getObjects().newInstance(GeneratedPolicy.class);
+        new GeneratedTool(new ToolProject(project), policy).configure();
+        final Task lines = project.getTasks().getByName(GeneratedTool.LINES);
+        policy.getLineChecks().set(false);
+        Assertions.assertTrue(lines.getEnabled(), "Expected the policy not to be read while configuring the task.");
+        Assertions.assertFalse(
+            GeneratedToolTest.runs(lines),
+            "Expected the line checks to be skipped by the policy."
+        );
+    }
+
+    @Test
+    void markersCountOnlyBeforeFirstBrace() throws IOException {
+        final Project project = this.project();
+        final GeneratedPolicy policy = project.getObjects().newInstance(GeneratedPolicy.class);
+        policy.getEnabled().set(true);
+        final GeneratedFiles generated = new GeneratedFiles(
+            policy.getEnabled(),
+            policy.getMaxFileSize(),
+            policy.getMarkers()
+        );
+        final File annotated = this.source(
+            "Annotated.java",
+            "import javax.annotation.processing.Generated;",
+            "@Generated(\"tool\")",
+            "final class Annotated {",
+            "}"
+        );
+        final File mentioned = this.source(
+            "Mentioned.java",
+            "final class Mentioned {",
+            "    // Generated code carries @Generated and DO NOT EDIT.",
+            "}"
+        );
+        Assertions.assertTrue(generated.isSatisfiedBy(annotated), "Expected a marked type to be generated.");
+        Assertions.assertFalse(
+            generated.isSatisfiedBy(mentioned),
+            "Expected markers inside the type body to be ignored."
+        );
+    }
+
+    @Test
+    void markersAreReadOncePerFileVersion() throws IOException {
+        final Project project = this.project();
+        final GeneratedPolicy policy = project.getObjects().newInstance(GeneratedPolicy.class);
+        policy.getEnabled().set(true);
+        final GeneratedFiles generated = new GeneratedFiles(
+            policy.getEnabled(),
+            policy.getMaxFileSize(),
+            policy.getMarkers()
+        );
+        final File file = this.source("Edited.java", "// DO NOT EDIT", "final class Edited {", "}");
+        final FileTime modified = Files.getLastModifiedTime(file.toPath());
+        Assertions.assertTrue(generated.isSatisfiedBy(file), "Expected a marked file to be generated.");
+        this.source("Edited.java", "// do not edit", "final class Edited {", "}");
+        Files.setLastModifiedTime(file.toPath(), modified);
+        Assertions.assertTrue(
+            generated.isSatisfiedBy(file),
+            "Expected the header not to be read again while length and modification time match."
+        );
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(modified.toMillis() + 1000L));
+        Assertions.assertFalse(generated.isSatisfiedBy(file), "Expected a changed file to be read again.");
+    }
+
+    @Test
+    void lineChecksRepeatFileChecksOfCheckstyleConfiguration() throws Exception {
+        final String config = new LineChecks(CheckstyleTool.RESOURCE).text();
+        Assertions.assertEquals(
+            GeneratedToolTest.fileChecks(UnifycodeResources.text(CheckstyleTool.RESOURCE), GeneratedToolTest.SKIPPED),
+            GeneratedToolTest.fileChecks(config, Set.of()),
+            "Expected the line checks to match the file checks of the Checkstyle configuration."
+        );
+        Assertions.assertTrue(
+            config.contains("-//Checkstyle//DTD Checkstyle Configuration 1.3//EN"),
+            "Expected the line checks to keep the Checkstyle DTD."
+        );
+    }
+
+    private Project project() {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        project.getPluginManager().apply("java");
+        project.getPluginManager().apply("checkstyle");
+        project.getPluginManager().apply("pmd");
+        return project;
+    }
+
+    private File source(final String name, final String... lines) throws IOException {
+        final Path file = this.projectDir.resolve("src/main/java").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+
+    /**
+     * Checker properties and modules of a Checkstyle configuration.
+     *
+     * @param config configuration XML.
+     * @param skipped module names to leave out.
+     * @return properties and modules in configuration order.
+     * @throws Exception on configuration read failure.
+     */
+    private static List<String> fileChecks(final String config, final Set<String> skipped) throws Exception {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+        final Element checker = factory.newDocumentBuilder()
+            .parse(new InputSource(new StringReader(config)))
+            .getDocumentElement();
+        final List<String> checks = new ArrayList<>();
+        final NodeList children = checker.getChildNodes();
+        for (int index = 0; index < children.getLength(); ++index) {
+            if (children.item(index) instanceof Element
+                && !skipped.contains(((Element) children.item(index)).getAttribute("name"))) {
+                checks.add(GeneratedToolTest.describe((Element) children.item(index)));
+            }
+        }
+        return checks;
+    }
+
+    private static String describe(final Element element) {
+        final StringBuilder description = new StringBuilder(element.getTagName())
+            .append(' ')
+            .append(element.getAttribute("name"))
+            .append('=')
+            .append(element.getAttribute("value"));
+        final NodeList children = element.getChildNodes();
+        for (int index = 0; index < children.getLength(); ++index) {
+            if (children.item(index) instanceof Element) {
+                description.append(" [").append(GeneratedToolTest.describe((Element) children.item(index))).append(']');
+            }
+        }
+        return description.toString();
+    }
+
+    private static boolean runs(final Task task) {
+        return ((TaskInternal) task).getOnlyIf().isSatisfiedBy((TaskInternal) task);
+    }
+
+    private static Set<String> names(final SourceTask task) {
+        return task.getSource().getFiles().stream().map(File::getName).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the profile report.
+ */
+final class ProfileReportTest {
+    /**
+     * Temporary report directory.
+     */
+    @TempDir
+    private Path directory;
+
+    @Test
+    void writesSlowestTaskFirst() throws IOException {
+        final List<ProfileService.ProfiledTask> tasks = new ArrayList<>();
+        tasks.add(new ProfileService.ProfiledTask(":pmdMain", "pmd", "executed", 120L, 4));
+        tasks.add(new ProfileService.ProfiledTask(":checkstyleMain", "checkstyle", "executed", 450L, 4));
+        tasks.add(new ProfileService.ProfiledTask(":spotlessJava", "spotless", "up-to-date", 3L, null));
+        new ProfileReport(this.directory.toFile()).write(tasks);
+        final String json = Files.readString(this.directory.resolve("profile.json"));
+        Assertions.assertTrue(
+            json.indexOf(":checkstyleMain") < json.indexOf(":pmdMain"),
+            "Expected the slowest task first."
+        );
+        Assertions.assertTrue(
+            json.contains("\"millis\": 450, \"files\": 4"),
+            "Expected task duration and file count."
+        );
+        Assertions.assertTrue(json.contains("\"files\": null"), "Expected unknown file count as null.");
+        Assertions.assertTrue(
+            Files.readString(this.directory.resolve("profile.html")).contains("<td>:spotlessJava</td>"),
+            "Expected HTML report row."
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import io.github.c71n93.unifycode.gradle.UnifycodeGradlePlugin;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import org.gradle.api.Project;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.services.BuildServiceRegistry;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the build-wide profile service.
+ */
+final class ProfileServiceTest {
+    @Test
+    void projectsShareOneProfileService() {
+        final Project root = ProjectBuilder.builder().build();
+        final Project lib = ProjectBuilder.builder().withParent(root).withName("lib").build();
+        for (final Project project : Arrays.asList(root, lib)) {
+            new UnifycodeGradlePlugin().apply(project);
+            project.getPluginManager().apply("java");
+            final ToolProject tools = new ToolProject(project);
+            tools.profileService(
+                tools.taskPaths(Collections.singletonMap(Checkstyle.class, "checkstyle")),
+                tools.taskFilesByPath(
+                    Checkstyle.class,
+                    task -> task.getReports().getXml().getOutputLocation().getAsFile()
+                )
+            );
+        }
+        final BuildServiceRegistry services = root.getGradle().getSharedServices();
+        final ProfileService.Parameters parameters =
+            (ProfileService.Parameters) services.getRegistrations().getByName("unifycodeProfile").getParameters();
+        final Set<String> own = this.tasks(services, "unifycodeProfile:");
+        Assertions.assertTrue(
+            own.contains(":checkstyleMain") && !own.contains(":lib:checkstyleMain"),
+            () -> "Expected the root listener to carry the root tasks only, got: " + own
+        );
+        final Set<String> child = this.tasks(services, "unifycodeProfile:lib");
+        Assertions.assertTrue(
+            child.contains(":lib:checkstyleMain") && !child.contains(":checkstyleMain"),
+            () -> "Expected the project listener to carry the project tasks only, got: " + child
+        );
+        Assertions.assertEquals(
+            root.getLayout().getProjectDirectory().dir("build/unifycode/profile").getAsFile(),
+            parameters.getOutputDirectory().get().getAsFile(),
+            "Expected the profile report in the root project."
+        );
+    }
+
+    private Set<String> tasks(final BuildServiceRegistry services, final String name) {
+        final ProjectProfile.Parameters parameters =
+            (ProjectProfile.Parameters) services.getRegistrations().getByName(name).getParameters();
+        return parameters.getTasks().get().keySet();
+    }
+}
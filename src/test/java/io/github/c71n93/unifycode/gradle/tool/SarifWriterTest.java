@@ -0,0 +1,106 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for streaming SARIF reports.
+ */
+final class SarifWriterTest {
+    /**
+     * Temporary root project directory.
+     */
+    @TempDir
+    private Path root;
+
+    @Test
+    void convertsCheckstyleAndPmdReports() throws IOException {
+        final Path source = this.root.resolve("app/src/main/java/demo/App.java");
+        final File checkstyle = this.write(
+            "checkstyle.xml",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<checkstyle version=\"10.24.0\">\n"
+                + "<file name=\"" + source + "\">\n"
+                + "<error line=\"3\" column=\"5\" severity=\"error\" message=\"Line has &quot;tabs&quot;.\""
+                + " source=\"com.puppycrawl.tools.checkstyle.checks.whitespace.FileTabCharacterCheck\"/>\n"
+                + "</file>\n</checkstyle>\n"
+        );
+        final File pmd = this.write(
+            "pmd.xml",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<pmd version=\"7.0.0\">\n"
+                + "<file name=\"" + source + "\">\n"
+                + "<violation beginline=\"7\" begincolumn=\"2\" rule=\"UnusedPrivateField\" priority=\"3\">\n"
+                + "Avoid unused private fields.\n</violation>\n"
+                + "</file>\n<error filename=\"" + source + "\" msg=\"Processing error\"/>\n</pmd>\n"
+        );
+        final File report = this.root.resolve("app.sarif").toFile();
+        try (SarifWriter sarif = new SarifWriter(report)) {
+            final XmlReports xml = new XmlReports(this.root, sarif);
+            sarif.run("Checkstyle", "https://checkstyle.org/", ":app/checkstyle/");
+            xml.checkstyle(checkstyle);
+            sarif.end();
+            sarif.run("PMD", "https://pmd.github.io/", ":app/pmd/");
+            xml.pmd(pmd);
+            sarif.end();
+        }
+        final String sarif = Files.readString(report.toPath());
+        Assertions.assertTrue(
+            sarif.contains(
+                "{\"ruleId\":\"FileTabCharacter\",\"level\":\"error\","
+                    + "\"message\":{\"text\":\"Line has \\\"tabs\\\".\"},"
+                    + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"app/src/main/java/demo/"
+                    + "App.java\",\"uriBaseId\":\"%SRCROOT%\"},\"region\":{\"startLine\":3,\"startColumn\":5}}}]}"
+            ),
+            () -> "Expected Checkstyle result.\nReport:\n" + sarif
+        );
+        Assertions.assertTrue(
+            sarif.contains(
+                "{\"ruleId\":\"UnusedPrivateField\",\"level\":\"warning\","
+                    + "\"message\":{\"text\":\"Avoid unused private fields.\"}"
+            ),
+            () -> "Expected PMD result.\nReport:\n" + sarif
+        );
+        Assertions.assertEquals(2, sarif.split("\"ruleId\"").length - 1, "Expected processing errors to be skipped.");
+    }
+
+    @Test
+    void copiesRunsOfChildReports() throws IOException {
+        final File child = this.root.resolve("child.sarif").toFile();
+        try (SarifWriter sarif = new SarifWriter(child)) {
+            sarif.run("PMD", "https://pmd.github.io/", ":lib/pmd/");
+            sarif.result("UnusedLocalVariable", "warning", "Unused.", new SarifWriter.Location("lib/A.java", 2, 0));
+            sarif.end();
+        }
+        final File empty = this.root.resolve("empty.sarif").toFile();
+        new SarifWriter(empty).close();
+        final File parent = this.root.resolve("parent.sarif").toFile();
+        try (SarifWriter sarif = new SarifWriter(parent)) {
+            sarif.run("PMD", "https://pmd.github.io/", ":pmd/");
+            sarif.end();
+            sarif.runs(empty);
+            sarif.runs(child);
+        }
+        Assertions.assertEquals(
+            "{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",\"version\":\"2.1.0\",\"runs\":["
+                + "{\"tool\":{\"driver\":{\"name\":\"PMD\",\"informationUri\":\"https://pmd.github.io/\"}},"
+                + "\"automationDetails\":{\"id\":\":pmd/\"},\"columnKind\":\"unicodeCodePoints\",\"results\":[]},"
+                + "{\"tool\":{\"driver\":{\"name\":\"PMD\",\"informationUri\":\"https://pmd.github.io/\"}},"
+                + "\"automationDetails\":{\"id\":\":lib/pmd/\"},\"columnKind\":\"unicodeCodePoints\",\"results\":["
+                + "{\"ruleId\":\"UnusedLocalVariable\",\"level\":\"warning\",\"message\":{\"text\":\"Unused.\"},"
+                + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"lib/A.java\","
+                + "\"uriBaseId\":\"%SRCROOT%\"},\"region\":{\"startLine\":2}}}]}]}]}\n",
+            Files.readString(parent.toPath()),
+            "Expected child runs to be appended after the own runs."
+        );
+    }
+
+    private File write(final String name, final String content) throws IOException {
+        final Path file = this.root.resolve(name);
+        Files.writeString(file, content);
+        return file.toFile();
+    }
+}
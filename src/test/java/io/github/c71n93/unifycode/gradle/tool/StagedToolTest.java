@@ -0,0 +1,96 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the staged files quality gate.
+ */
+final class StagedToolTest {
+    /**
+     * Staged quality gate task name.
+     */
+    private static final String STAGED = "unifycodeStaged";
+
+    /**
+     * Temporary project directory.
+     */
+    @TempDir
+    private Path projectDir;
+
+    @Test
+    void analysisIsNarrowedToStagedFiles() throws IOException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java/demo"));
+        Files.writeString(sources.resolve("Staged.java"), "package demo;\n");
+        Files.writeString(sources.resolve("Unstaged.java"), "package demo;\n");
+        final Project project = this.project();
+        new StagedTool(
+            new ToolProject(project),
+            project.provider(() -> Set.of(sources.resolve("Staged.java").toFile().getAbsolutePath()))
+        ).configure();
+        final Set<String> expected = Set.of("Staged.java");
+        Assertions.assertEquals(
+            expected,
+            this.names(this.checkstyleMain(project)),
+            "Expected Checkstyle to analyze staged files only."
+        );
+        Assertions.assertEquals(
+            expected,
+            this.names(project.getTasks().withType(Pmd.class).getByName("pmdMain").getSource().getFiles()),
+            "Expected PMD to analyze staged files only."
+        );
+        final Task staged = project.getTasks().getByName(StagedToolTest.STAGED);
+        Assertions.assertTrue(
+            staged.getTaskDependencies().getDependencies(staged).stream().map(Task::getName)
+                .collect(Collectors.toSet())
+                .containsAll(Set.of("checkstyleMain", "pmdMain")),
+            "Expected the staged gate to run Checkstyle and PMD."
+        );
+    }
+
+    @Test
+    void analysisIsNotNarrowedWithoutStagedFiles() throws IOException {
+        final Path sources = Files.createDirectories(this.projectDir.resolve("src/main/java/demo"));
+        Files.writeString(sources.resolve("App.java"), "package demo;\n");
+        final Project project = this.project();
+        new StagedTool(new ToolProject(project), project.provider(() -> null)).configure();
+        Assertions.assertEquals(
+            Set.of("App.java"),
+            this.names(this.checkstyleMain(project)),
+            "Expected full analysis without a staged file list."
+        );
+        final Task staged = project.getTasks().getByName(StagedToolTest.STAGED);
+        Assertions.assertTrue(
+            staged.getTaskDependencies().getDependencies(staged).isEmpty(),
+            "Expected the staged gate to run no tool without a staged file list."
+        );
+    }
+
+    private Project project() {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        project.getPluginManager().apply("java");
+        project.getPluginManager().apply("checkstyle");
+        project.getPluginManager().apply("pmd");
+        return project;
+    }
+
+    private Set<File> checkstyleMain(final Project project) {
+        return project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain").getSource().getFiles();
+    }
+
+    private Set<String> names(final Set<File> files) {
+        return files.stream().map(File::getName).collect(Collectors.toSet());
+    }
+}
@@ -37,4 +37,28 @@ final class UnifycodeResourcesTest {
             Assertions.assertTrue(Files.isRegularFile(copied.toPath()), () -> "Expected regular file: " + resource);
         }
     }
+
+    @Test
+    void checksumsDifferBetweenBundledToolResources() {
+        Assertions.assertNotEquals(
+            UnifycodeResources.checksum(UnifycodeResourcesTest.RESOURCES[0]),
+            UnifycodeResources.checksum(UnifycodeResourcesTest.RESOURCES[2]),
+            "Expected different resources to have different checksums."
+        );
+        Assertions.assertEquals(
+            UnifycodeResources.checksum(UnifycodeResourcesTest.RESOURCES[0]),
+            UnifycodeResources.checksum(UnifycodeResourcesTest.RESOURCES[0]),
+            "Expected checksums to be stable."
+        );
+    }
+
+    @Test
+    void checkstyleConfigurationDeclaresTheResultCache() {
+        Assertions.assertTrue(
+            UnifycodeResources.text(UnifycodeResourcesTest.RESOURCES[0]).contains(
+                "<property name=\"cacheFile\" value=\"${config_loc}/../checkstyle/${unifycode.checkstyle.cache}\" />"
+            ),
+            "Expected the result cache beside the extracted configuration."
+        );
+    }
 }
@@ -0,0 +1,107 @@
+package io.github.c71n93.unifycode.gradle.tool;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.gradle.api.Project;
+import org.gradle.api.Task;
+import org.gradle.api.plugins.quality.Checkstyle;
+import org.gradle.api.plugins.quality.Pmd;
+import org.gradle.testfixtures.ProjectBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the continuous watch mode.
+ */
+final class WatchToolTest {
+    /**
+     * Temporary project directory.
+     */
+    @TempDir
+    private Path projectDir;
+
+    @Test
+    void watchKeepsToolsOnlyItRunsGoingOnViolations() {
+        final Project project = this.project();
+        new WatchTool(new ToolProject(project)).configure();
+        final Task watch = project.getTasks().getByName(WatchTool.WATCH);
+        final Set<String> tools = WatchToolTest.dependencies(watch).stream().map(Task::getName)
+            .collect(Collectors.toSet());
+        Assertions.assertTrue(
+            tools.containsAll(Set.of("checkstyleMain", "pmdMain")),
+            "Expected the watch task to run Checkstyle and PMD."
+        );
+        Assertions.assertEquals(
+            tools,
+            WatchTool.watchedOnly(watch, WatchToolTest.graph(watch), WatchToolTest::dependencies).stream()
+                .map(Task.class::cast)
+                .map(Task::getName)
+                .collect(Collectors.toSet()),
+            "Expected violations not to fail the tools only the watch task runs."
+        );
+    }
+
+    @Test
+    void toolsOtherGatesRunKeepFailing() {
+        final Project project = this.project();
+        new WatchTool(new ToolProject(project)).configure();
+        final Task watch = project.getTasks().getByName(WatchTool.WATCH);
+        final List<Task> graph = WatchToolTest.graph(watch, project.getTasks().getByName("check"));
+        Assertions.assertTrue(
+            WatchTool.watchedOnly(watch, graph, WatchToolTest::dependencies).isEmpty(),
+            "Expected violations to fail the tools the check task runs too."
+        );
+    }
+
+    @Test
+    void toolsFailWhenNotWatching() {
+        final Project project = this.project();
+        new WatchTool(new ToolProject(project)).configure();
+        Assertions.assertFalse(
+            project.getTasks().withType(Checkstyle.class).getByName("checkstyleMain").getIgnoreFailures(),
+            "Expected violations to fail the tools when not watching."
+        );
+    }
+
+    @Test
+    void changesMatchViolationsByFingerprint() {
+        final List<String> previous = List.of("aa App.java:3: [Rule] moved", "bb App.java:4: [Rule] fixed");
+        final List<String> current = List.of("aa App.java:5: [Rule] moved", "cc App.java:7: [Rule] added");
+        Assertions.assertEquals(
+            List.of("cc App.java:7: [Rule] added"),
+            WatchTask.unmatched(current, previous),
+            "Expected only the added violation to be new."
+        );
+        Assertions.assertEquals(
+            List.of("bb App.java:4: [Rule] fixed"),
+            WatchTask.unmatched(previous, current),
+            "Expected only the fixed violation to be cleared."
+        );
+    }
+
+    private static List<Task> graph(final Task... requested) {
+        final List<Task> graph = new ArrayList<>();
+        for (final Task task : requested) {
+            graph.add(task);
+            graph.addAll(WatchToolTest.dependencies(task));
+        }
+        return graph;
+    }
+
+    private static Set<Task> dependencies(final Task task) {
+        return new HashSet<>(task.getTaskDependencies().getDependencies(task));
+    }
+
+    private Project project() {
+        final Project project = ProjectBuilder.builder().withProjectDir(this.projectDir.toFile()).build();
+        project.getPluginManager().apply("java");
+        project.getPluginManager().apply("checkstyle");
+        project.getPluginManager().apply("pmd");
+        return project;
+    }
+}
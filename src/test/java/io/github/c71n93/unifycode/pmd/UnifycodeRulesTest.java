@@ -0,0 +1,277 @@
+package io.github.c71n93.unifycode.pmd;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.sourceforge.pmd.PMDConfiguration;
+import net.sourceforge.pmd.PmdAnalysis;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the custom PMD rules, run through the bundled Unifycode ruleset.
+ */
+final class UnifycodeRulesTest {
+    /**
+     * Unifycode ruleset resource path.
+     */
+    private static final String RULES = "io/github/c71n93/unifycode/pmd/unifycode.xml";
+
+    /**
+     * Temporary source directory.
+     */
+    @TempDir
+    private Path directory;
+
+    @Test
+    void constructorShouldDoInitialization() throws IOException {
+        Assertions.assertEquals(
+            List.of(1),
+            this.lines(
+                "ConstructorShouldDoInitialization",
+                "Initialized",
+                "class Initialized {",
+                "    private final int value = 1;",
+                "    Initialized() {",
+                "    }",
+                "}",
+                "class Declared {",
+                "    private final int value = 1;",
+                "}",
+                "class Constructed {",
+                "    private static final int LIMIT = 1;",
+                "    private final int value;",
+                "    Constructed() {",
+                "        this.value = 1;",
+                "    }",
+                "}"
+            ),
+            "Expected only the class initializing fields outside its constructor."
+        );
+    }
+
+    @Test
+    void onlyOneConstructorShouldDoInitialization() throws IOException {
+        Assertions.assertEquals(
+            List.of(1),
+            this.lines(
+                "OnlyOneConstructorShouldDoInitialization",
+                "Twice",
+                "class Twice {",
+                "    private int value;",
+                "    Twice() {",
+                "        this.value = 1;",
+                "    }",
+                "    Twice(final int value) {",
+                "        this.value = value;",
+                "    }",
+                "}",
+                "class Delegating {",
+                "    private int value;",
+                "    Delegating() {",
+                "        this(1);",
+                "    }",
+                "    Delegating(final int value) {",
+                "        this.value = value;",
+                "    }",
+                "}"
+            ),
+            "Expected only the class initializing fields in two constructors."
+        );
+    }
+
+    @Test
+    void constructorOnlyInitializesOrCallOtherConstructors() throws IOException {
+        Assertions.assertEquals(
+            List.of(3, 16),
+            this.lines(
+                "ConstructorOnlyInitializesOrCallOtherConstructors",
+                "Working",
+                "class Working {",
+                "    private int value;",
+                "    Working(final int value) {",
+                "        System.out.println(value);",
+                "        this.value = value;",
+                "    }",
+                "    Working() {",
+                "        this(1);",
+                "    }",
+                "    Working(final String value) {",
+                "        this.value = value.length();",
+                "    }",
+                "}",
+                "class Local {",
+                "    private int value;",
+                "    Local() {",
+                "        final int local = 1;",
+                "        this.value = local;",
+                "    }",
+                "}"
+            ),
+            "Expected the constructors with a call and a local variable."
+        );
+    }
+
+    @Test
+    void constructorCountsThisFieldAccessesOnBothSidesOfAssignments() throws IOException {
+        Assertions.assertEquals(
+            List.of(4),
+            this.lines(
+                "ConstructorOnlyInitializesOrCallOtherConstructors",
+                "Copy",
+                "class Copy {",
+                "    private int first;",
+                "    private int second;",
+                "    Copy() {",
+                "        this.first = this.second;",
+                "    }",
+                "    Copy(int value) {",
+                "        value = this.second;",
+                "    }",
+                "}"
+            ),
+            "Expected the copy between fields and no report for the assignment from a field."
+        );
+    }
+
+    @Test
+    void avoidDirectAccessToStaticFields() throws IOException {
+        Assertions.assertEquals(
+            List.of(5),
+            this.lines(
+                "AvoidDirectAccessToStaticFields",
+                "Counter",
+                "class Counter {",
+                "    private static final int LIMIT = 1;",
+                "    private int count;",
+                "    int remaining() {",
+                "        return LIMIT - this.count;",
+                "    }",
+                "    int limit() {",
+                "        return Counter.LIMIT;",
+                "    }",
+                "}"
+            ),
+            "Expected only the unqualified static field access."
+        );
+    }
+
+    @Test
+    void avoidAccessToStaticMembersViaThis() throws IOException {
+        Assertions.assertEquals(
+            List.of(5, 8),
+            this.lines(
+                "AvoidAccessToStaticMembersViaThis",
+                "Registry",
+                "class Registry {",
+                "    private static final int LIMIT = 1;",
+                "    private int count;",
+                "    int limit() {",
+                "        return this.LIMIT + this.count;",
+                "    }",
+                "    int next() {",
+                "        return this.twice(Registry.LIMIT);",
+                "    }",
+                "    private static int twice(final int value) {",
+                "        return value * 2;",
+                "    }",
+                "}"
+            ),
+            "Expected the static field and method accessed through this."
+        );
+    }
+
+    @Test
+    void prohibitPublicStaticMethods() throws IOException {
+        Assertions.assertEquals(
+            List.of(2),
+            this.lines(
+                "ProhibitPublicStaticMethods",
+                "Tools",
+                "public final class Tools {",
+                "    public static int twice(final int value) {",
+                "        return value * 2;",
+                "    }",
+                "    static int thrice(final int value) {",
+                "        return value * 3;",
+                "    }",
+                "    public static void main(final String[] args) {",
+                "    }",
+                "    @BeforeClass",
+                "    public static void prepare() {",
+                "    }",
+                "}"
+            ),
+            "Expected only the public static method that is neither main nor a hook."
+        );
+    }
+
+    @Test
+    void prohibitFilesCreateFileInTests() throws IOException {
+        Assertions.assertEquals(
+            List.of(5),
+            this.lines(
+                "ProhibitFilesCreateFileInTests",
+                "FilesTest",
+                "import java.nio.file.Files;",
+                "import java.nio.file.Path;",
+                "final class FilesTest {",
+                "    void create(final Path path) throws java.io.IOException {",
+                "        Files.createFile(path);",
+                "        Files.createDirectory(path);",
+                "    }",
+                "}",
+                "final class Fixture {",
+                "    void create(final Path path) throws java.io.IOException {",
+                "        Files.createFile(path);",
+                "    }",
+                "}"
+            ),
+            "Expected only the file creation inside the test class."
+        );
+    }
+
+    @Test
+    void junitTestClassShouldBeFinal() throws IOException {
+        Assertions.assertEquals(
+            List.of(1, 5),
+            this.lines(
+                "JUnitTestClassShouldBeFinal",
+                "NamesTest",
+                "class NamesTest {",
+                "}",
+                "final class FinalTest {",
+                "}",
+                "class Annotated {",
+                "    @Test",
+                "    void runs() {",
+                "    }",
+                "}",
+                "interface ContractTest {",
+                "}"
+            ),
+            "Expected the non-final test classes."
+        );
+    }
+
+    private List<Integer> lines(final String rule, final String name, final String... source) throws IOException {
+        final Path file = this.directory.resolve(name + ".java");
+        Files.write(file, List.of(source), StandardCharsets.UTF_8);
+        final PMDConfiguration configuration = new PMDConfiguration();
+        configuration.setThreads(0);
+        configuration.setIgnoreIncrementalAnalysis(true);
+        configuration.addRuleSet(UnifycodeRulesTest.RULES);
+        try (PmdAnalysis analysis = PmdAnalysis.create(configuration)) {
+            analysis.files().addFile(file);
+            return analysis.performAnalysisAndCollectReport().getViolations().stream()
+                .filter(violation -> rule.equals(violation.getRule().getName()))
+                .map(violation -> violation.getBeginLine())
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
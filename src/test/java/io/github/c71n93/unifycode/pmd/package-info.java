@@ -0,0 +1,4 @@
+/**
+ * Tests for custom PMD rules.
+ */
+package io.github.c71n93.unifycode.pmd;